@@ -4,13 +4,17 @@ import com.baro.baro_baedal.modules.login.data.LoginRequest
 import com.baro.baro_baedal.modules.login.data.LoginResponse
 import com.baro.baro_baedal.modules.main.data.SearchResponse
 import com.baro.baro_baedal.modules.order.data.OrderListInfo
+import com.baro.baro_baedal.modules.market.data.CheckoutRequest
+import com.baro.baro_baedal.modules.market.data.CheckoutResponse
 import com.baro.baro_baedal.modules.market.data.OrderRequest
 import com.baro.baro_baedal.modules.market.data.PayPoint
 import com.baro.baro_baedal.modules.market.data.SetPoint
 import com.baro.baro_baedal.modules.market.data.SingleMenuResponse
 import com.baro.baro_baedal.modules.market.data.StoreMenuResponse
 import com.baro.baro_baedal.modules.mypage.data.AddPoint
+import com.baro.baro_baedal.modules.mypage.data.BoardThreadInfo
 import com.baro.baro_baedal.modules.mypage.data.MemberInfo
+import com.baro.baro_baedal.modules.mypage.data.NoticeDetailInfo
 import com.baro.baro_baedal.modules.mypage.data.NoticeInfo
 import com.baro.baro_baedal.modules.mypage.data.QnaRequest
 import com.baro.baro_baedal.modules.mypage.data.UpdateMember
@@ -46,6 +50,13 @@ interface AllApi {
     @POST("/api/order/create")
     fun createOrder(@Header("Authorization") token: String, @Body order: OrderRequest): Call<Void>
 
+    @POST("/api/order/checkout")
+    fun checkout(
+        @Header("Authorization") token: String,
+        @Header("Idempotency-Key") idempotencyKey: String,
+        @Body order: CheckoutRequest
+    ): Call<CheckoutResponse>
+
     @GET("/api/member/info")
     fun getMemberInfo(@Header("Authorization") token: String): Call<MemberInfo>
 
@@ -67,7 +78,24 @@ interface AllApi {
     @POST("/api/board")
     fun createQna(@Header("Authorization") token: String, @Body qnareq: QnaRequest): Call<Void>
 
-    @GET("/api/board")
-    //fun getNotice(@Header("Authorization") token: String, @Query("category") category: String): Call<List<NoticeInfo>>
-    fun getNotice(@Header("Authorization") token: String, @Query("category") category: String): Call<NoticeInfo>
+    // 목록 한 페이지 (제목/작성일만), cursor 는 이전 응답의 nextCursor (첫 페이지는 null)
+    @GET("/api/board/list")
+    fun getNotice(
+        @Header("Authorization") token: String,
+        @Query("category") category: String,
+        @Query("cursor") cursor: Int?,
+        @Query("size") size: Int
+    ): Call<NoticeInfo>
+
+    @GET("/api/board/{id}")
+    fun getBoard(@Header("Authorization") token: String, @Path("id") id: Int): Call<NoticeDetailInfo>
+
+    // 게시글 + 댓글 (문의 답변)
+    @GET("/api/board/{id}/thread")
+    fun getBoardThread(
+        @Header("Authorization") token: String,
+        @Path("id") id: Int,
+        @Query("cursor") cursor: Int?,
+        @Query("size") size: Int
+    ): Call<BoardThreadInfo>
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.baro.baro_baedal.modules.market.data
+
+data class CheckoutRequest(
+    val storeId: Int,
+    val menuId: Int,
+    val quantity: Int
+)
+
+data class CheckoutResponse(
+    val responseType: String,
+    val data: CheckoutResult?,
+    val message: String,
+    val code: String? = null    // 실패 시 서버의 MessageCode (예: POINT_INSUFFICIENT)
+)
+
+data class CheckoutResult(
+    val orderId: Int,
+    val totalPrice: Int,
+    val point: Int
+)
@@ -22,18 +22,16 @@ import com.baro.baro_baedal.datastore.getTokenHeader
 import com.baro.baro_baedal.modules.AllApi
 import com.baro.baro_baedal.modules.RetrofitClient
 import com.baro.baro_baedal.modules.common.Config
-import com.baro.baro_baedal.modules.market.data.OrderRequest
+import com.baro.baro_baedal.modules.market.data.CheckoutRequest
+import com.baro.baro_baedal.modules.market.data.CheckoutResponse
 import com.baro.baro_baedal.modules.market.data.PayPoint
 import com.baro.baro_baedal.modules.market.data.Point
-import com.baro.baro_baedal.modules.market.data.SetPoint
 import com.baro.baro_baedal.modules.market.data.SingleMenuItem
 import com.baro.baro_baedal.modules.market.data.SingleMenuResponse
 import retrofit2.Call
 import retrofit2.Callback
 import retrofit2.Response
-import java.text.SimpleDateFormat
-import java.util.Date
-import java.util.Locale
+import java.util.UUID
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
@@ -45,6 +43,8 @@ fun OrderPageView(navController: NavController, menuId: Int, quantity: Int) {
     var tokenHeader by remember { mutableStateOf("") }
     var point by remember { mutableStateOf<Point?>(null) }
     var showPointDialog by remember { mutableStateOf(false) }
+    // 결제 시도 단위 키: 응답을 못 받은 재시도는 같은 키로 보내고, 서버가 실패로 답하면 새 키로 바꿈
+    var checkoutKey by remember { mutableStateOf(UUID.randomUUID().toString()) }
     var showFailDialog by remember { mutableStateOf(false) }
 
     LaunchedEffect(menuId) {
@@ -156,51 +156,43 @@ fun OrderPageView(navController: NavController, menuId: Int, quantity: Int) {
 
                 Button(
                     onClick = {
-                        val currentTime = SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(Date())
-
-                        val order = OrderRequest(
-                            storeId = menu!!.storeId,
-                            menuId = menuId,
-                            quantity = quantity,
-                            totalPrice = totalPrice,
-                            createdAt = currentTime
-                        )
                         val userPoint = point?.point ?: 0
 
                         if (userPoint - totalPrice < 0) {
                             showPointDialog = true
                             return@Button
                         }
-                        val finalPoint = SetPoint(userPoint - totalPrice)
-
-                        api.setPoint(tokenHeader, finalPoint).enqueue(object : Callback<Void> {
-                            override fun onResponse(call: Call<Void>, response: Response<Void>) {
-                                if (response.isSuccessful) {
-                                    api.createOrder(tokenHeader, order).enqueue(object : Callback<Void> {
-                                        override fun onResponse(call: Call<Void>, response: Response<Void>) {
-                                            if (response.isSuccessful) {
-                                                Toast.makeText(context, "결제가 완료되었습니다.", Toast.LENGTH_SHORT).show()
-                                                navController.navigate("home") {
-                                                    popUpTo(0)
-                                                    launchSingleTop = true
-                                                }
-                                            } else {
-                                                Toast.makeText(context, "주문 등록 실패 (${response.code()}", Toast.LENGTH_SHORT).show()
-                                            }
-                                        }
-
-                                        override fun onFailure(call: Call<Void>, t: Throwable) {
-                                            Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
-                                        }
-                                    })
-                                }
-                                else {
-                                    Toast.makeText(context, "포인트 갱신 실패 (${response.code()}", Toast.LENGTH_SHORT).show()
+                        // 포인트 차감과 주문 생성은 서버에서 한 번에 처리 (재시도 시 같은 키로 중복 결제 방지)
+                        val order = CheckoutRequest(
+                            storeId = menu!!.storeId,
+                            menuId = menuId,
+                            quantity = quantity
+                        )
+
+                        api.checkout(tokenHeader, checkoutKey, order).enqueue(object : Callback<CheckoutResponse> {
+                            override fun onResponse(call: Call<CheckoutResponse>, response: Response<CheckoutResponse>) {
+                                val body = response.body()
+                                if (response.isSuccessful && body?.responseType == "SUCCESS") {
+                                    Toast.makeText(context, "결제가 완료되었습니다.", Toast.LENGTH_SHORT).show()
+                                    navController.navigate("home") {
+                                        popUpTo(0)
+                                        launchSingleTop = true
+                                    }
+                                } else if (response.code() == 409) {
+                                    // 같은 키의 결제가 아직 처리 중: 키를 유지해야 재시도 시 그 결과를 받음
+                                    Toast.makeText(context, body?.message ?: "결제를 처리하고 있습니다.", Toast.LENGTH_SHORT).show()
+                                } else if (body?.code == "POINT_INSUFFICIENT") {
+                                    checkoutKey = UUID.randomUUID().toString()
+                                    showPointDialog = true
+                                } else {
+                                    checkoutKey = UUID.randomUUID().toString()
+                                    Toast.makeText(context, body?.message ?: "결제 실패 (${response.code()})", Toast.LENGTH_SHORT).show()
                                     showFailDialog = true
                                 }
-
                             }
-                            override fun onFailure(call: Call<Void>, t: Throwable) {
+
+                            override fun onFailure(call: Call<CheckoutResponse>, t: Throwable) {
+                                // 서버 처리 여부를 모르므로 키를 유지 (재시도 시 이미 처리된 결제면 그 결과가 돌아옴)
                                 Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
                                 showFailDialog = true
                             }
@@ -4,9 +4,22 @@ import android.icu.text.CaseMap.Title
 import kotlinx.parcelize.Parcelize
 import android.os.Parcelable
 
+// GET /api/board/list 응답 (목록에는 본문 content 가 없음)
 data class NoticeInfo(
     val responseType: String,
-    val data: List<NoticeInfoDetail>,
+    val data: NoticeInfoPage?,
+    val message: String
+)
+
+data class NoticeInfoPage(
+    val items: List<NoticeInfoDetail>,
+    val nextCursor: Int?   // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+)
+
+// GET /api/board/{id} 응답 (본문 포함)
+data class NoticeDetailInfo(
+    val responseType: String,
+    val data: NoticeInfoDetail?,
     val message: String
 )
 
@@ -16,9 +29,30 @@ data class NoticeInfoDetail(
     val category: String,
     val memberId: Int,
     val title: String,
+    val content: String? = null,
+    val createdAt: String,
+    val commentCount: Int = 0
+) : Parcelable
+
+// GET /api/board/{id}/thread 응답 (게시글 + 댓글 한 페이지)
+data class BoardThreadInfo(
+    val responseType: String,
+    val data: BoardThread?,
+    val message: String
+)
+
+data class BoardThread(
+    val board: NoticeInfoDetail,
+    val comments: List<CommentInfo>,
+    val nextCursor: Int?
+)
+
+data class CommentInfo(
+    val id: Int,
+    val userid: String,
     val content: String,
     val createdAt: String
-) : Parcelable
+)
 
 //@Parcelize
 //data class NoticeInfo(
@@ -185,33 +185,40 @@ fun MypageView(navController: NavController) {
 
                 item {
                     var noticeList by remember { mutableStateOf<List<NoticeInfoDetail>>(emptyList()) }
+                    var noticeCursor by remember { mutableStateOf<Int?>(null) }
 
-                    LaunchedEffect(Unit) {
-                        val tokenHeader = getTokenHeader(context)
-                        if (tokenHeader == null) return@LaunchedEffect
-
-                        allApi.getNotice(tokenHeader, "notice").enqueue(object : Callback<NoticeInfo> {
-                            override fun onResponse(
-                                call: Call<NoticeInfo>,
-                                response: Response<NoticeInfo>
-                            ) {
-                                if (response.isSuccessful) {
-                                    val body = response.body()
-                                    noticeList = body?.data ?: emptyList()
-                                    Log.e("Notice", "Loaded: ${noticeList.size} notices")
-                                } else {
-                                    Toast.makeText(context, "공지사항 불러오기 실패 : (${response.code()}", Toast.LENGTH_SHORT).show()
-                                    Log.e("Notice", "Loaded: ${response.code()} error")
+                    // 목록은 페이지 단위로 받아서 뒤에 이어 붙임 (본문은 상세 화면에서 조회)
+                    val loadNotices: (Int?) -> Unit = { cursor ->
+                        coroutineScope.launch {
+                            val tokenHeader = getTokenHeader(context) ?: return@launch
+
+                            allApi.getNotice(tokenHeader, "notice", cursor, 20).enqueue(object : Callback<NoticeInfo> {
+                                override fun onResponse(
+                                    call: Call<NoticeInfo>,
+                                    response: Response<NoticeInfo>
+                                ) {
+                                    if (response.isSuccessful) {
+                                        val page = response.body()?.data
+                                        noticeList = noticeList + (page?.items ?: emptyList())
+                                        noticeCursor = page?.nextCursor
+                                        Log.e("Notice", "Loaded: ${noticeList.size} notices")
+                                    } else {
+                                        Toast.makeText(context, "공지사항 불러오기 실패 : (${response.code()}", Toast.LENGTH_SHORT).show()
+                                        Log.e("Notice", "Loaded: ${response.code()} error")
+                                    }
                                 }
-                            }
 
 
-                            override fun onFailure(call: Call<NoticeInfo>, t: Throwable) {
-                                Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
-                                Log.e("Notice", "Error: ${t.message}")
-                            }
-                        })
+                                override fun onFailure(call: Call<NoticeInfo>, t: Throwable) {
+                                    Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
+                                    Log.e("Notice", "Error: ${t.message}")
+                                }
+                            })
+                        }
+                    }
 
+                    LaunchedEffect(Unit) {
+                        loadNotices(null)
                     }
                     Box(
                         modifier = Modifier.fillMaxWidth(),
@@ -294,6 +301,15 @@ fun MypageView(navController: NavController) {
                             }
                         }
                     }
+
+                    if (noticeCursor != null) {
+                        TextButton(
+                            onClick = { loadNotices(noticeCursor) },
+                            modifier = Modifier.fillMaxWidth()
+                        ) {
+                            Text("더보기", color = Color.Gray, fontSize = 14.sp)
+                        }
+                    }
                 }
 
                 /** ✅ 문의내역 */
@@ -313,35 +329,42 @@ fun MypageView(navController: NavController) {
 
                     // 🔹 서버에서 받아올 문의내역 리스트
                     var qnaList by remember { mutableStateOf<List<NoticeInfoDetail>>(emptyList()) }
+                    var qnaCursor by remember { mutableStateOf<Int?>(null) }
 
-                    LaunchedEffect(Unit) {
-                        val tokenHeader = getTokenHeader(context)
-                        if (tokenHeader == null) return@LaunchedEffect
-
-                        allApi.getNotice(tokenHeader, "qna").enqueue(object : Callback<NoticeInfo> {
-                            override fun onResponse(
-                                call: Call<NoticeInfo>,
-                                response: Response<NoticeInfo>
-                            ) {
-                                if (response.isSuccessful) {
-                                    val body = response.body()
-                                    qnaList = body?.data ?: emptyList()
-                                    Log.e("QNA", "Loaded: ${qnaList.size} items")
-                                } else {
-                                    Toast.makeText(
-                                        context,
-                                        "문의내역 불러오기 실패 (${response.code()})",
-                                        Toast.LENGTH_SHORT
-                                    ).show()
-                                    Log.e("QNA", "Error Code: ${response.code()}")
+                    val loadQnas: (Int?) -> Unit = { cursor ->
+                        coroutineScope.launch {
+                            val tokenHeader = getTokenHeader(context) ?: return@launch
+
+                            allApi.getNotice(tokenHeader, "qna", cursor, 20).enqueue(object : Callback<NoticeInfo> {
+                                override fun onResponse(
+                                    call: Call<NoticeInfo>,
+                                    response: Response<NoticeInfo>
+                                ) {
+                                    if (response.isSuccessful) {
+                                        val page = response.body()?.data
+                                        qnaList = qnaList + (page?.items ?: emptyList())
+                                        qnaCursor = page?.nextCursor
+                                        Log.e("QNA", "Loaded: ${qnaList.size} items")
+                                    } else {
+                                        Toast.makeText(
+                                            context,
+                                            "문의내역 불러오기 실패 (${response.code()})",
+                                            Toast.LENGTH_SHORT
+                                        ).show()
+                                        Log.e("QNA", "Error Code: ${response.code()}")
+                                    }
                                 }
-                            }
 
-                            override fun onFailure(call: Call<NoticeInfo>, t: Throwable) {
-                                Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
-                                Log.e("QNA", "Error: ${t.message}")
-                            }
-                        })
+                                override fun onFailure(call: Call<NoticeInfo>, t: Throwable) {
+                                    Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
+                                    Log.e("QNA", "Error: ${t.message}")
+                                }
+                            })
+                        }
+                    }
+
+                    LaunchedEffect(Unit) {
+                        loadQnas(null)
                     }
 
                     // 🔹 문의내역 UI 구성
@@ -401,7 +424,7 @@ fun MypageView(navController: NavController) {
                                                     fontWeight = FontWeight.Medium
                                                 )
                                                 Text(
-                                                    text = qna.createdAt,
+                                                    text = if (qna.commentCount > 0) "${qna.createdAt} · 답변 ${qna.commentCount}" else qna.createdAt,
                                                     fontSize = 12.sp,
                                                     color = Color.Gray
                                                 )
@@ -412,6 +435,15 @@ fun MypageView(navController: NavController) {
                             }
                         }
                     }
+
+                    if (qnaCursor != null) {
+                        TextButton(
+                            onClick = { loadQnas(qnaCursor) },
+                            modifier = Modifier.fillMaxWidth()
+                        ) {
+                            Text("더보기", color = Color.Gray, fontSize = 14.sp)
+                        }
+                    }
                 }
 
                 /** ✅ 문의하기 버튼 */
@@ -1,5 +1,7 @@
 package com.baro.baro_baedal.modules.mypage.view
 
+import android.util.Log
+import android.widget.Toast
 import androidx.compose.foundation.layout.Arrangement
 import androidx.compose.foundation.layout.Box
 import androidx.compose.foundation.layout.Column
@@ -20,9 +22,22 @@ import androidx.compose.ui.Modifier
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.setValue
+import androidx.compose.ui.platform.LocalContext
 import androidx.navigation.NavController
+import com.baro.baro_baedal.datastore.getTokenHeader
+import com.baro.baro_baedal.modules.AllApi
+import com.baro.baro_baedal.modules.RetrofitClient
+import com.baro.baro_baedal.modules.mypage.data.NoticeDetailInfo
 import com.baro.baro_baedal.modules.mypage.data.NoticeInfo
 import com.baro.baro_baedal.modules.mypage.data.NoticeInfoDetail
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
@@ -30,6 +45,31 @@ fun NoticeDetailPageView(
     navController: NavController,
     notice: NoticeInfoDetail
 ) {
+    val context = LocalContext.current
+    var content by remember { mutableStateOf(notice.content ?: "") }
+
+    // 목록에는 본문이 없으므로 상세 화면에서 /api/board/{id} 로 조회
+    LaunchedEffect(notice.id) {
+        val tokenHeader = getTokenHeader(context) ?: return@LaunchedEffect
+        RetrofitClient.instance.create(AllApi::class.java)
+            .getBoard(tokenHeader, notice.id)
+            .enqueue(object : Callback<NoticeDetailInfo> {
+                override fun onResponse(call: Call<NoticeDetailInfo>, response: Response<NoticeDetailInfo>) {
+                    if (response.isSuccessful) {
+                        content = response.body()?.data?.content ?: ""
+                    } else {
+                        Toast.makeText(context, "공지사항 불러오기 실패 (${response.code()})", Toast.LENGTH_SHORT).show()
+                        Log.e("Notice", "Error Code: ${response.code()}")
+                    }
+                }
+
+                override fun onFailure(call: Call<NoticeDetailInfo>, t: Throwable) {
+                    Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
+                    Log.e("Notice", "Error: ${t.message}")
+                }
+            })
+    }
+
     Scaffold(
         topBar = {
             TopAppBar(
@@ -61,7 +101,7 @@ fun NoticeDetailPageView(
             )
             Divider(thickness = 1.dp)
             Text(
-                text = notice.content,
+                text = content,
                 fontSize = 15.sp,
                 lineHeight = 22.sp
             )
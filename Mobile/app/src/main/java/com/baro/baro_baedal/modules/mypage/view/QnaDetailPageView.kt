@@ -1,9 +1,13 @@
 package com.baro.baro_baedal.modules.mypage.view
 
+import android.util.Log
+import android.widget.Toast
 import androidx.compose.foundation.layout.Arrangement
 import androidx.compose.foundation.layout.Column
 import androidx.compose.foundation.layout.fillMaxSize
 import androidx.compose.foundation.layout.padding
+import androidx.compose.foundation.rememberScrollState
+import androidx.compose.foundation.verticalScroll
 import androidx.compose.material.icons.Icons
 import androidx.compose.material.icons.filled.ArrowBack
 import androidx.compose.material3.*
@@ -12,8 +16,22 @@ import androidx.compose.ui.Modifier
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.unit.sp
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.setValue
+import androidx.compose.ui.platform.LocalContext
 import androidx.navigation.NavController
+import com.baro.baro_baedal.datastore.getTokenHeader
+import com.baro.baro_baedal.modules.AllApi
+import com.baro.baro_baedal.modules.RetrofitClient
+import com.baro.baro_baedal.modules.mypage.data.BoardThreadInfo
+import com.baro.baro_baedal.modules.mypage.data.CommentInfo
 import com.baro.baro_baedal.modules.mypage.data.NoticeInfoDetail
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
@@ -21,6 +39,34 @@ fun QnaDetailPageView(
     navController: NavController,
     qna: NoticeInfoDetail
 ) {
+    val context = LocalContext.current
+    var content by remember { mutableStateOf(qna.content ?: "") }
+    var comments by remember { mutableStateOf<List<CommentInfo>>(emptyList()) }
+
+    // 목록에는 본문이 없으므로 상세 화면에서 게시글 + 답변(댓글)을 한 번에 조회
+    LaunchedEffect(qna.id) {
+        val tokenHeader = getTokenHeader(context) ?: return@LaunchedEffect
+        RetrofitClient.instance.create(AllApi::class.java)
+            .getBoardThread(tokenHeader, qna.id, null, 50)
+            .enqueue(object : Callback<BoardThreadInfo> {
+                override fun onResponse(call: Call<BoardThreadInfo>, response: Response<BoardThreadInfo>) {
+                    if (response.isSuccessful) {
+                        val thread = response.body()?.data
+                        content = thread?.board?.content ?: ""
+                        comments = thread?.comments ?: emptyList()
+                    } else {
+                        Toast.makeText(context, "문의내역 불러오기 실패 (${response.code()})", Toast.LENGTH_SHORT).show()
+                        Log.e("QNA", "Error Code: ${response.code()}")
+                    }
+                }
+
+                override fun onFailure(call: Call<BoardThreadInfo>, t: Throwable) {
+                    Toast.makeText(context, "네트워크 오류: ${t.message}", Toast.LENGTH_SHORT).show()
+                    Log.e("QNA", "Error: ${t.message}")
+                }
+            })
+    }
+
     Scaffold(
         topBar = {
             TopAppBar(
@@ -37,7 +83,8 @@ fun QnaDetailPageView(
             modifier = Modifier
                 .padding(padding)
                 .padding(16.dp)
-                .fillMaxSize(),
+                .fillMaxSize()
+                .verticalScroll(rememberScrollState()),
             verticalArrangement = Arrangement.spacedBy(12.dp)
         ) {
             Text(
@@ -52,10 +99,33 @@ fun QnaDetailPageView(
             )
             Divider(thickness = 1.dp)
             Text(
-                text = qna.content,
+                text = content,
                 fontSize = 15.sp,
                 lineHeight = 22.sp
             )
+
+            if (comments.isNotEmpty()) {
+                Divider(thickness = 1.dp)
+                Text(
+                    text = "답변",
+                    fontSize = 16.sp,
+                    fontWeight = FontWeight.SemiBold
+                )
+                comments.forEach { comment ->
+                    Column(verticalArrangement = Arrangement.spacedBy(4.dp)) {
+                        Text(
+                            text = "${comment.userid} · ${comment.createdAt}",
+                            fontSize = 12.sp,
+                            color = MaterialTheme.colorScheme.secondary
+                        )
+                        Text(
+                            text = comment.content,
+                            fontSize = 14.sp,
+                            lineHeight = 20.sp
+                        )
+                    }
+                }
+            }
         }
     }
 }
\ No newline at end of file
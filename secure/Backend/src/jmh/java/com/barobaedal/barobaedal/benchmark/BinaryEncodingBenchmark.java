@@ -0,0 +1,99 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.response.CommonResponse;
+import com.barobaedal.barobaedal.common.response.ResponseType;
+import com.barobaedal.barobaedal.orders.dto.OrderResponse;
+import com.barobaedal.barobaedal.stores.dto.StoreDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// /api/store/all, /api/order/member 응답을 JSON / CBOR / Smile 로 직렬화하는 비용과 크기 비교
+// 크기(원본, gzip)는 Setup 에서 한 번 출력한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryEncodingBenchmark {
+
+    @Param({"store/all", "order/member"})
+    private String endpoint;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private CommonResponse<Object> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        response = switch (endpoint) {
+            case "store/all" -> CommonResponse.response(ResponseType.SUCCESS, stores(300), "모든 상점 정보 조회 완료");
+            default -> CommonResponse.response(ResponseType.SUCCESS, orders(50), "사용자에 대한 주문 정보 조회 완료");
+        };
+        encoded = objectMapper.writeValueAsBytes(response);
+        System.out.printf("%n[payload] %s %s: %d bytes, gzip %d bytes%n",
+                endpoint, format, encoded.length, gzipSize(encoded));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 단말에서 파싱하는 쪽 비용 참고용 (서버 JVM 기준)
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return objectMapper.readTree(encoded);
+    }
+
+    private static List<StoreDto> stores(int count) {
+        String[] categories = {"한식", "중식", "일식", "양식", "치킨", "피자", "분식", "카페"};
+        List<StoreDto> stores = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            stores.add(StoreDto.builder()
+                    .id(i)
+                    .memberId(1000 + i)
+                    .category(categories[i % categories.length])
+                    .name("바로배달 " + i + "호점")
+                    .address("부산시 남구 용호로 " + i)
+                    .phone("051-123-" + String.format("%04d", i))
+                    .openH(10).openM(0).closedH(22).closedM(30)
+                    .thumbnail("/upload/store/" + i + ".jpg")
+                    .createdAt("2025-10-22 12:30")
+                    .build());
+        }
+        return stores;
+    }
+
+    private static List<OrderResponse> orders(int count) {
+        List<OrderResponse> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(new OrderResponse(i, 7, i % 50, i % 300, 1 + i % 3, 7000 * (1 + i % 3),
+                    "2025-10-22 12:30", "김철수", "010-1234-5678", "서울시 강남구 역삼동",
+                    "짜장명가", "부산시 남구 용호로 21", "짜장면", "선결제"));
+        }
+        return orders;
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
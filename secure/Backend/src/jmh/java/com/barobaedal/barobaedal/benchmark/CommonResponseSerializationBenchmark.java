@@ -0,0 +1,42 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.response.CommonResponse;
+import com.barobaedal.barobaedal.common.response.ResponseType;
+import com.barobaedal.barobaedal.orders.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// /api/order/list 처럼 대량의 OrderResponse 를 CommonResponse 로 직렬화하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommonResponseSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private CommonResponse<Object> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        List<OrderResponse> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(new OrderResponse(i, i % 500, i % 50, i % 300, 1 + i % 3, 7000 * (1 + i % 3),
+                    "2025-10-22 12:30", "김철수", "010-1234-5678", "서울시 강남구 역삼동",
+                    "짜장명가", "부산시 남구 용호로 21", "짜장면", "선결제"));
+        }
+        response = CommonResponse.response(ResponseType.SUCCESS, orders, "모든 주문 정보 조회 완료");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
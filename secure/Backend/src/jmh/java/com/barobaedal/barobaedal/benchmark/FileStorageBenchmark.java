@@ -0,0 +1,49 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.FileStorageService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 디스크 성능을 배제하기 위해 가능하면 tmpfs(/dev/shm)에 저장
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileStorageBenchmark {
+
+    @Param({"4096", "1048576"})
+    private int fileSize;
+
+    private Path uploadDir;
+    private FileStorageService fileStorageService;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path shm = Paths.get("/dev/shm");
+        Path base = Files.isDirectory(shm) && Files.isWritable(shm) ? shm : Paths.get(System.getProperty("java.io.tmpdir"));
+        uploadDir = Files.createTempDirectory(base, "jmh-upload-");
+        fileStorageService = new FileStorageService(uploadDir.toString());
+
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        file = new MockMultipartFile("thumbnailFile", "jajangmyeon.jpg", "image/jpeg", content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public String storeFile() throws IOException {
+        return fileStorageService.storeFile(file);
+    }
+}
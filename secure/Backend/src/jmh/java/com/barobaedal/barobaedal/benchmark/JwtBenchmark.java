@@ -0,0 +1,47 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
+import com.barobaedal.barobaedal.common.auth.JwtKeyProperties;
+import com.barobaedal.barobaedal.common.auth.JwtKeyStore;
+import com.barobaedal.barobaedal.common.revocation.RevocationProperties;
+import com.barobaedal.barobaedal.common.revocation.TokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 임시 키 파일 + DB 없이 메모리 무효 목록만 사용 (authenticate 비용에 kid 조회, 블룸 필터 확인이 포함됨)
+        Path dir = Files.createTempDirectory("jwt-bench");
+        JwtKeyProperties keyProperties = new JwtKeyProperties();
+        keyProperties.setKeystorePath(dir.resolve("jwt-keys.json").toString());
+        JwtKeyStore keyStore = new JwtKeyStore(keyProperties, new SimpleMeterRegistry());
+        keyStore.load();
+        jwtUtil = new JwtUtil(keyStore, keyProperties,
+                new TokenRevocationStore(new RevocationProperties(), null, new SimpleMeterRegistry()));
+        token = jwtUtil.generateToken("user001");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user001");
+    }
+
+    // 요청당 한 번 (서명 검증 + 무효 목록 확인)
+    @Benchmark
+    public AuthPrincipal authenticate() {
+        return jwtUtil.authenticate(token);
+    }
+}
@@ -0,0 +1,29 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+// OrderController.create 의 주문 시각 포맷팅: 호출마다 패턴을 만드는 방식과 상수로 재사용하는 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderCreatedAtFormatBenchmark {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Benchmark
+    public String ofPatternPerCall() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+
+    @Benchmark
+    public String cachedFormatter() {
+        return LocalDateTime.now(SEOUL).format(CREATED_AT_FORMAT);
+    }
+}
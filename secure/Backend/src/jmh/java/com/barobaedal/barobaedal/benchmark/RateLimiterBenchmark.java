@@ -0,0 +1,65 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.ratelimit.RateLimitProperties;
+import com.barobaedal.barobaedal.common.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 허용 경로(버킷이 충분한 상태)의 요청당 비용: 목표 1µs 미만
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    public int clients;
+
+    private RateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().put("search", rule(List.of("/api/store/search")));
+        properties.getRules().put("reporting", rule(List.of("/api/order/list", "/api/order/sales", "/api/order/day")));
+        properties.getRules().put("default", rule(List.of("/api/**")));
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "user:user" + i;
+        }
+    }
+
+    // 거절되지 않도록 충분히 큰 버킷
+    private static RateLimitProperties.Rule rule(List<String> patterns) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPatterns(patterns);
+        rule.setCapacity(1_000_000);
+        rule.setRefillPerSecond(1_000_000_000);
+        return rule;
+    }
+
+    @Benchmark
+    public long firstRule() {
+        return rateLimiter.tryAcquire("/api/store/search", key());
+    }
+
+    @Benchmark
+    public long fallbackRule() {
+        return rateLimiter.tryAcquire("/api/menu/store/17", key());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long fallbackRuleContended() {
+        return rateLimiter.tryAcquire("/api/menu/store/17", key());
+    }
+
+    private String key() {
+        return clients == 1 ? keys[0] : keys[ThreadLocalRandom.current().nextInt(clients)];
+    }
+}
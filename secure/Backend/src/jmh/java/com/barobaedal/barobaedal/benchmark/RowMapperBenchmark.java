@@ -0,0 +1,206 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.BoardSummaryDto;
+import com.barobaedal.barobaedal.boards.dto.CommentDto;
+import com.barobaedal.barobaedal.boards.repository.BoardRepository;
+import com.barobaedal.barobaedal.boards.repository.CommentRepository;
+import com.barobaedal.barobaedal.members.dto.MemberCredentialDto;
+import com.barobaedal.barobaedal.members.dto.MemberDto;
+import com.barobaedal.barobaedal.members.repository.MemberRepository;
+import com.barobaedal.barobaedal.menus.dto.MenuDto;
+import com.barobaedal.barobaedal.menus.repository.MenuRepository;
+import com.barobaedal.barobaedal.orders.dto.OrderResponse;
+import com.barobaedal.barobaedal.orders.dto.SalesResponse;
+import com.barobaedal.barobaedal.orders.repository.OrderRepository;
+import com.barobaedal.barobaedal.stores.dto.StoreDto;
+import com.barobaedal.barobaedal.stores.repository.StoreRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 저장소의 RowMapper 들은 private 이므로 Setup 단계에서 리플렉션으로 한 번만 꺼내 사용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowMapperBenchmark {
+
+    private RowMapper<BoardDto> boardMapper;
+    private RowMapper<BoardSummaryDto> boardSummaryMapper;
+    private RowMapper<CommentDto> commentMapper;
+    private RowMapper<MenuDto> menuMapper;
+    private RowMapper<StoreDto> storeMapper;
+    private RowMapper<OrderResponse> orderResponseMapper;
+    private RowMapper<SalesResponse.MenuSales> menuSalesMapper;
+    private RowMapper<MemberDto> memberMapper;
+    private RowMapper<MemberCredentialDto> credentialMapper;
+
+    private ResultSet boardRow;
+    private ResultSet boardSummaryRow;
+    private ResultSet commentRow;
+    private ResultSet menuRow;
+    private ResultSet storeRow;
+    private ResultSet orderRow;
+    private ResultSet menuSalesRow;
+    private ResultSet memberRow;
+    private ResultSet credentialRow;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws SQLException {
+        JdbcTemplate noDatabase = null;
+        BoardRepository boardRepository = new BoardRepository(noDatabase);
+        boardMapper = (RowMapper<BoardDto>) ReflectionTestUtils.getField(boardRepository, "rowMapper");
+        boardSummaryMapper = (RowMapper<BoardSummaryDto>) ReflectionTestUtils.getField(boardRepository, "summaryRowMapper");
+        commentMapper = (RowMapper<CommentDto>) ReflectionTestUtils.getField(new CommentRepository(noDatabase), "rowMapper");
+        menuMapper = (RowMapper<MenuDto>) ReflectionTestUtils.getField(new MenuRepository(noDatabase), "menuMapper");
+        storeMapper = (RowMapper<StoreDto>) ReflectionTestUtils.getField(new StoreRepository(noDatabase), "storeMapper");
+        OrderRepository orderRepository = new OrderRepository(noDatabase);
+        orderResponseMapper = ReflectionTestUtils.invokeMethod(orderRepository, "orderResponseRowMapper");
+        menuSalesMapper = ReflectionTestUtils.invokeMethod(orderRepository, "menuSalesRowMapper");
+        MemberRepository memberRepository = new MemberRepository(noDatabase);
+        memberMapper = (RowMapper<MemberDto>) ReflectionTestUtils.getField(memberRepository, "memberMapper");
+        credentialMapper = (RowMapper<MemberCredentialDto>) ReflectionTestUtils.getField(memberRepository, "credentialMapper");
+
+        LinkedHashMap<String, Object> board = new LinkedHashMap<>();
+        board.put("id", 1);
+        board.put("category", "qna");
+        board.put("member_id", 3);
+        board.put("userid", "user003");
+        board.put("title", "배달이 늦어요");
+        board.put("content", "주문한 지 한 시간이 지났는데 아직 도착하지 않았습니다.");
+        board.put("created_at", "2025-10-22");
+        board.put("comment_count", 2);
+        boardRow = RowSets.singleRow(board);
+
+        // 목록은 본문 없이 조회
+        LinkedHashMap<String, Object> boardSummary = new LinkedHashMap<>(board);
+        boardSummary.remove("content");
+        boardSummaryRow = RowSets.singleRow(boardSummary);
+
+        LinkedHashMap<String, Object> comment = new LinkedHashMap<>();
+        comment.put("id", 10);
+        comment.put("board_id", 1);
+        comment.put("member_id", 1);
+        comment.put("userid", "admin");
+        comment.put("content", "확인 후 가게에 연락드렸습니다. 불편을 드려 죄송합니다.");
+        comment.put("created_at", "2025-10-22 13:05");
+        commentRow = RowSets.singleRow(comment);
+
+        LinkedHashMap<String, Object> menu = new LinkedHashMap<>();
+        menu.put("id", 1);
+        menu.put("store_id", 9);
+        menu.put("title", "짜장면");
+        menu.put("content", "춘장을 볶아 만든 기본 짜장면");
+        menu.put("price", 7000);
+        menu.put("thumbnail", "upload/jajangmyeon.jpg");
+        menuRow = RowSets.singleRow(menu);
+
+        LinkedHashMap<String, Object> store = new LinkedHashMap<>();
+        store.put("id", 9);
+        store.put("member_id", 9);
+        store.put("category", "중식");
+        store.put("name", "짜장명가");
+        store.put("address", "부산시 남구 용호로 21");
+        store.put("phone", "051-876-5432");
+        store.put("open_h", 10);
+        store.put("open_m", 0);
+        store.put("closed_h", 22);
+        store.put("closed_m", 0);
+        store.put("thumbnail", "upload/store.jpg");
+        store.put("created_at", "2025-10-22");
+        storeRow = RowSets.singleRow(store);
+
+        LinkedHashMap<String, Object> order = new LinkedHashMap<>();
+        order.put("id", 100);
+        order.put("member_id", 1);
+        order.put("store_id", 9);
+        order.put("menu_id", 1);
+        order.put("quantity", 2);
+        order.put("total_price", 14000);
+        order.put("created_at", "2025-10-22 12:30");
+        order.put("customer_name", "김철수");
+        order.put("customer_phone", "010-1234-5678");
+        order.put("customer_address", "서울시 강남구 역삼동");
+        order.put("store_name", "짜장명가");
+        order.put("store_address", "부산시 남구 용호로 21");
+        order.put("menu_title", "짜장면");
+        order.put("payment_method", "선결제");
+        orderRow = RowSets.singleRow(order);
+
+        LinkedHashMap<String, Object> menuSales = new LinkedHashMap<>();
+        menuSales.put("menu_id", 1);
+        menuSales.put("menu_name", "짜장면");
+        menuSales.put("count", 120);
+        menuSales.put("amount", 840000);
+        menuSalesRow = RowSets.singleRow(menuSales);
+
+        LinkedHashMap<String, Object> member = new LinkedHashMap<>();
+        member.put("userid", "user003");
+        member.put("name", "김철수");
+        member.put("birth", "1995-03-14");
+        member.put("phone", "010-1234-5678");
+        member.put("email", "user003@example.com");
+        member.put("address", "서울시 강남구 역삼동");
+        member.put("point", 25000);
+        memberRow = RowSets.singleRow(member);
+
+        LinkedHashMap<String, Object> credential = new LinkedHashMap<>();
+        credential.put("id", 3);
+        credential.put("role", "OWNER");
+        credential.put("userpw", "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6YlZQ6wqJ0nO6e0VZo3Ih2a");
+        credential.put("store_id", 9);
+        credentialRow = RowSets.singleRow(credential);
+    }
+
+    @Benchmark
+    public BoardDto board() throws SQLException {
+        return boardMapper.mapRow(boardRow, 0);
+    }
+
+    @Benchmark
+    public BoardSummaryDto boardSummary() throws SQLException {
+        return boardSummaryMapper.mapRow(boardSummaryRow, 0);
+    }
+
+    @Benchmark
+    public CommentDto comment() throws SQLException {
+        return commentMapper.mapRow(commentRow, 0);
+    }
+
+    @Benchmark
+    public MenuDto menu() throws SQLException {
+        return menuMapper.mapRow(menuRow, 0);
+    }
+
+    @Benchmark
+    public StoreDto store() throws SQLException {
+        return storeMapper.mapRow(storeRow, 0);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponse() throws SQLException {
+        return orderResponseMapper.mapRow(orderRow, 0);
+    }
+
+    @Benchmark
+    public SalesResponse.MenuSales menuSales() throws SQLException {
+        return menuSalesMapper.mapRow(menuSalesRow, 0);
+    }
+
+    @Benchmark
+    public MemberDto member() throws SQLException {
+        return memberMapper.mapRow(memberRow, 0);
+    }
+
+    @Benchmark
+    public MemberCredentialDto credential() throws SQLException {
+        return credentialMapper.mapRow(credentialRow, 0);
+    }
+}
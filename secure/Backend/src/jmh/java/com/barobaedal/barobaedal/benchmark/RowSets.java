@@ -0,0 +1,41 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// DB 없이 RowMapper 를 측정하기 위한 한 행짜리 메모리 ResultSet
+final class RowSets {
+
+    private RowSets() {
+    }
+
+    static ResultSet singleRow(LinkedHashMap<String, Object> row) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(row.size());
+        int index = 1;
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            metaData.setColumnName(index, column.getKey());
+            metaData.setColumnLabel(index, column.getKey());
+            metaData.setColumnType(index, column.getValue() instanceof Integer ? Types.INTEGER : Types.VARCHAR);
+            index++;
+        }
+
+        CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+        rowSet.setMetaData(metaData);
+        rowSet.moveToInsertRow();
+        index = 1;
+        for (Object value : row.values()) {
+            rowSet.updateObject(index++, value);
+        }
+        rowSet.insertRow();
+        rowSet.moveToCurrentRow();
+        rowSet.first();
+        return rowSet;
+    }
+}
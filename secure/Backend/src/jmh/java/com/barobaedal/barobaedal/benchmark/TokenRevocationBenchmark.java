@@ -0,0 +1,62 @@
+package com.barobaedal.barobaedal.benchmark;
+
+import com.barobaedal.barobaedal.common.revocation.RevocationProperties;
+import com.barobaedal.barobaedal.common.revocation.TokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 인증 한 번에 더해지는 무효 토큰 확인 비용: 목표 수십 ns
+// active : 로그아웃하지 않은 토큰 (블룸 필터에서 끝남), revoked : 로그아웃한 토큰 (정확한 집합까지 확인)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenRevocationBenchmark {
+
+    private static final int SAMPLES = 4096;
+
+    // 보관 중인 로그아웃 토큰 수 (expected-revocations 기본값까지)
+    @Param({"0", "10000", "100000"})
+    public int revokedCount;
+
+    private TokenRevocationStore store;
+    private String[] active;
+    private String[] revoked;
+
+    @Setup
+    public void setUp() {
+        store = new TokenRevocationStore(new RevocationProperties(), null, new SimpleMeterRegistry());
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        revoked = new String[Math.max(1, Math.min(revokedCount, SAMPLES))];
+        for (int i = 0; i < revokedCount; i++) {
+            String jti = UUID.randomUUID().toString();
+            store.remember(jti, expiresAt);
+            if (i < revoked.length) revoked[i] = jti;
+        }
+        if (revokedCount == 0) revoked[0] = UUID.randomUUID().toString();
+
+        active = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            active[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean active() {
+        return store.isRevoked(active[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return store.isRevoked(revoked[ThreadLocalRandom.current().nextInt(revoked.length)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean activeContended() {
+        return store.isRevoked(active[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+}
@@ -0,0 +1,45 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import java.util.Arrays;
+
+// 엔드포인트별 지연 시간(마이크로초)과 오류 수 (HTTP 오류 + 200 응답의 ERROR 본문)
+class EndpointStats {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private int httpErrors;
+    private int appErrors;
+
+    synchronized void record(long latencyMicros, boolean httpError, boolean appError) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        // 한 요청은 한 번만 셈 (4xx/5xx 응답의 ERROR 본문은 HTTP 오류로만)
+        if (httpError) {
+            httpErrors++;
+        } else if (appError) {
+            appErrors++;
+        }
+    }
+
+    synchronized Summary summarize() {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        return new Summary(count, percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1], httpErrors, appErrors);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1000.0;
+    }
+
+    record Summary(int count, double p50Ms, double p95Ms, double p99Ms, double maxMs, int httpErrors, int appErrors) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) (httpErrors + appErrors) / count;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// H2 에 없는 MariaDB 날짜 함수(STR_TO_DATE, DATE_FORMAT) 중 저장소 쿼리가 쓰는 지정자만 구현
+public final class H2Functions {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern SPECIFIER = Pattern.compile("%([YmdHis])");
+
+    private H2Functions() {
+    }
+
+    // MariaDB 처럼 앞부분부터 읽고, 문자열이 짧으면 남은 필드는 0 으로 채움
+    public static Timestamp strToDate(String value, String format) {
+        if (value == null || format == null) return null;
+        int[] fields = {0, 1, 1, 0, 0, 0};  // Y m d H i s
+        Matcher specifiers = SPECIFIER.matcher(format);
+        Matcher numbers = NUMBER.matcher(value);
+        while (specifiers.find() && numbers.find()) {
+            fields["YmdHis".indexOf(specifiers.group(1))] = Integer.parseInt(numbers.group());
+        }
+        try {
+            return Timestamp.valueOf(LocalDateTime.of(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public static String dateFormat(Timestamp value, String format) {
+        if (value == null || format == null) return null;
+        LocalDateTime time = value.toLocalDateTime();
+        Matcher specifiers = SPECIFIER.matcher(format);
+        StringBuilder result = new StringBuilder();
+        while (specifiers.find()) {
+            String replacement = switch (specifiers.group(1)) {
+                case "Y" -> String.format("%04d", time.getYear());
+                case "m" -> String.format("%02d", time.getMonthValue());
+                case "d" -> String.format("%02d", time.getDayOfMonth());
+                case "H" -> String.format("%02d", time.getHour());
+                case "i" -> String.format("%02d", time.getMinute());
+                default -> String.format("%02d", time.getSecond());
+            };
+            specifiers.appendReplacement(result, replacement);
+        }
+        specifiers.appendTail(result);
+        return result.toString();
+    }
+}
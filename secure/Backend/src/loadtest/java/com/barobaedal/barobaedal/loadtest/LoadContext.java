@@ -0,0 +1,86 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시나리오가 요청을 만들 때 쓰는 세션 토큰과 카탈로그 정보
+class LoadContext {
+
+    record OwnerSession(String token, int storeId) {
+    }
+
+    private final URI baseUri;
+    private final List<String> userTokens;
+    private final List<OwnerSession> owners;
+    private final String adminToken;
+    private final int stores;
+    private final int menusPerStore;
+
+    LoadContext(URI baseUri, List<String> userTokens, List<OwnerSession> owners, String adminToken,
+                int stores, int menusPerStore) {
+        this.baseUri = baseUri;
+        this.userTokens = userTokens;
+        this.owners = owners;
+        this.adminToken = adminToken;
+        this.stores = stores;
+        this.menusPerStore = menusPerStore;
+    }
+
+    String userToken() {
+        return userTokens.get(random().nextInt(userTokens.size()));
+    }
+
+    OwnerSession owner() {
+        return owners.get(random().nextInt(owners.size()));
+    }
+
+    String adminToken() {
+        return adminToken;
+    }
+
+    // 인기 상점에 주문이 몰리도록 앞쪽 상점을 더 자주 선택
+    int storeId() {
+        double skew = Math.pow(random().nextDouble(), 2);
+        return 1 + (int) (skew * stores);
+    }
+
+    int menuIdOf(int storeId) {
+        return (storeId - 1) * menusPerStore + 1 + random().nextInt(menusPerStore);
+    }
+
+    String month() {
+        return String.format("2025-%02d", 1 + random().nextInt(12));
+    }
+
+    String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    HttpRequest.Builder get(String path, String token) {
+        return request(path, token).GET();
+    }
+
+    HttpRequest.Builder postJson(String path, String token, String json) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(10));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
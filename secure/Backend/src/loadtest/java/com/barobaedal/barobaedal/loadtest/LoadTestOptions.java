@@ -0,0 +1,58 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// --rps=200 --duration=60 --warmup=10 --mix=lunch:70,owner:20,admin:10 --users=2000 --stores=200 --orders=100000 --seed=42
+class LoadTestOptions {
+
+    int rps = 200;
+    int durationSeconds = 60;
+    int warmupSeconds = 10;
+    int users = 2000;
+    int stores = 200;
+    int menusPerStore = 12;
+    int orders = 100_000;
+    long seed = 42;
+    int sessions = 50;
+    String report = "build/loadtest/report.json";
+    Map<Scenario, Integer> mix = new LinkedHashMap<>(Map.of(
+            Scenario.LUNCH, 70,
+            Scenario.OWNER, 20,
+            Scenario.ADMIN, 10));
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "rps" -> options.rps = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "stores" -> options.stores = Integer.parseInt(value);
+                case "menus-per-store" -> options.menusPerStore = Integer.parseInt(value);
+                case "orders" -> options.orders = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "sessions" -> options.sessions = Integer.parseInt(value);
+                case "report" -> options.report = value;
+                case "mix" -> options.mix = parseMix(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
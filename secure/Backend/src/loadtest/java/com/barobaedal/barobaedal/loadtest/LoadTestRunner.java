@@ -0,0 +1,172 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import com.barobaedal.barobaedal.BarobaedalApplication;
+import com.barobaedal.barobaedal.loadtest.dataset.DatasetGenerator;
+import com.barobaedal.barobaedal.loadtest.dataset.DatasetSpec;
+import com.barobaedal.barobaedal.loadtest.dataset.JdbcRowSink;
+import com.barobaedal.barobaedal.loadtest.dataset.RowSink;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 내장 DB 로 애플리케이션을 띄우고 시나리오 가중치대로 고정 RPS(open-loop) 부하를 건 뒤
+// 엔드포인트별 p50/p95/p99 지연 시간과 오류율을 출력/저장한다.
+public class LoadTestRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(BarobaedalApplication.class)
+                .profiles("loadtest")
+                .run()) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            long seedStart = System.nanoTime();
+            seed(app.getBean(DataSource.class), options);
+            System.out.printf("seeded %d users, %d stores, %d orders in %d ms%n", options.users, options.stores,
+                    options.orders, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadContext context = login(client, baseUri, options);
+
+            if (options.warmupSeconds > 0) {
+                System.out.printf("warmup %ds @ %d rps%n", options.warmupSeconds, options.rps);
+                run(client, context, options, options.warmupSeconds);
+            }
+            System.out.printf("measure %ds @ %d rps, mix=%s%n", options.durationSeconds, options.rps, options.mix);
+            Map<String, EndpointStats> stats = run(client, context, options, options.durationSeconds);
+
+            Map<String, EndpointStats.Summary> summaries = new LinkedHashMap<>();
+            stats.keySet().stream().sorted().forEach(endpoint -> summaries.put(endpoint, stats.get(endpoint).summarize()));
+            print(summaries);
+            writeReport(options, summaries);
+        }
+    }
+
+    // 회원 user1..N / owner1..S / admin01 (비밀번호 "pw" + 아이디), 상점 id 가 작을수록 인기 상점
+    private static void seed(DataSource dataSource, LoadTestOptions options) throws Exception {
+        DatasetSpec spec = DatasetSpec.forOrders(options.orders, options.seed).toBuilder()
+                .users(options.users)
+                .stores(options.stores)
+                .menusPerStore(options.menusPerStore)
+                .startingPoint(1_000_000)
+                .build();
+        try (Connection connection = dataSource.getConnection();
+             RowSink sink = new JdbcRowSink(connection, 500)) {
+            new DatasetGenerator(spec).generate(sink);
+        }
+    }
+
+    private static LoadContext login(HttpClient client, URI baseUri, LoadTestOptions options) throws Exception {
+        LoadContext anonymous = new LoadContext(baseUri, List.of(), List.of(), null, options.stores, options.menusPerStore);
+        List<String> users = new ArrayList<>();
+        for (int i = 1; i <= Math.min(options.sessions, options.users); i++) {
+            users.add(login(client, anonymous, "user" + i).path("token").asText());
+        }
+        List<LoadContext.OwnerSession> owners = new ArrayList<>();
+        for (int i = 1; i <= Math.min(options.sessions, options.stores); i++) {
+            JsonNode data = login(client, anonymous, "owner" + i);
+            owners.add(new LoadContext.OwnerSession(data.path("token").asText(), data.path("storeId").asInt()));
+        }
+        String admin = login(client, anonymous, "admin01").path("token").asText();
+        return new LoadContext(baseUri, users, owners, admin, options.stores, options.menusPerStore);
+    }
+
+    private static JsonNode login(HttpClient client, LoadContext context, String userid) throws Exception {
+        String body = String.format("{\"userid\":\"%s\",\"userpw\":\"pw%s\"}", userid, userid);
+        HttpResponse<String> response = client.send(context.postJson("/api/member/login", null, body).build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode data = MAPPER.readTree(response.body()).path("data");
+        if (response.statusCode() != 200 || !data.hasNonNull("token")) {
+            throw new IllegalStateException("로그인 실패: " + userid + " -> " + response.body());
+        }
+        return data;
+    }
+
+    // 요청마다 예정 시각을 정해두고 그 시각부터 지연을 잰다 (응답이 밀려도 발송 속도를 늦추지 않음)
+    private static Map<String, EndpointStats> run(HttpClient client, LoadContext context, LoadTestOptions options,
+                                                  int seconds) {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rps;
+        long total = (long) options.rps * seconds;
+        int totalWeight = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario.Step step = pickScenario(options.mix, totalWeight).pick();
+            HttpRequest request = step.request().apply(context).build();
+            EndpointStats endpoint = stats.computeIfAbsent(step.endpoint(), k -> new EndpointStats());
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .handle((response, error) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                        boolean httpError = error != null || response.statusCode() >= 400;
+                        boolean appError = error == null && response.body().contains("\"responseType\":\"ERROR\"");
+                        endpoint.record(micros, httpError, appError);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return stats;
+    }
+
+    private static Scenario pickScenario(Map<Scenario, Integer> mix, int totalWeight) {
+        int roll = LoadContext.random().nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) return entry.getKey();
+        }
+        return mix.keySet().iterator().next();
+    }
+
+    private static void print(Map<String, EndpointStats.Summary> summaries) {
+        System.out.printf("%-32s %8s %9s %9s %9s %9s %8s%n", "endpoint", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "error%");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-32s %8d %9.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                endpoint, s.count(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(), s.errorRate() * 100));
+    }
+
+    private static void writeReport(LoadTestOptions options, Map<String, EndpointStats.Summary> summaries) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rps", options.rps);
+        report.put("durationSeconds", options.durationSeconds);
+        report.put("mix", options.mix);
+        report.put("seed", options.seed);
+        report.put("endpoints", summaries);
+        Path path = Path.of(options.report);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writer(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        System.out.println("report -> " + path.toAbsolutePath());
+    }
+}
@@ -0,0 +1,73 @@
+package com.barobaedal.barobaedal.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.function.Function;
+
+// http-test/*.http 의 요청들을 트래픽 유형별 가중치로 묶은 시나리오
+enum Scenario {
+
+    // 점심 피크: 상점/메뉴 조회 위주, 일부 주문(대부분 포인트 결제)
+    LUNCH(List.of(
+            new Step("GET /api/store/all", 25, c -> c.get("/api/store/all", c.userToken())),
+            new Step("GET /api/store/search", 10, c -> c.get("/api/store/search?name=" + c.encode("가게" + c.storeId()), c.userToken())),
+            new Step("GET /api/store/info/{id}", 10, c -> c.get("/api/store/info/" + c.storeId(), c.userToken())),
+            new Step("GET /api/menu/store/{storeId}", 30, c -> c.get("/api/menu/store/" + c.storeId(), c.userToken())),
+            new Step("GET /api/menu/info/{id}", 5, c -> c.get("/api/menu/info/" + c.menuIdOf(c.storeId()), c.userToken())),
+            new Step("POST /api/order/create", 5, c -> {
+                int storeId = c.storeId();
+                return c.postJson("/api/order/create", c.userToken(), String.format(
+                        "{\"storeId\":%d,\"menuId\":%d,\"quantity\":%d}",
+                        storeId, c.menuIdOf(storeId), 1 + LoadContext.random().nextInt(3)));
+            }),
+            new Step("POST /api/order/checkout", 10, c -> {
+                int storeId = c.storeId();
+                return c.postJson("/api/order/checkout", c.userToken(), String.format(
+                        "{\"storeId\":%d,\"menuId\":%d,\"quantity\":%d}",
+                        storeId, c.menuIdOf(storeId), 1 + LoadContext.random().nextInt(3)));
+            }),
+            new Step("GET /api/order/member", 5, c -> c.get("/api/order/member", c.userToken()))
+    )),
+
+    // 사장님 대시보드 폴링
+    OWNER(List.of(
+            new Step("GET /api/order/store/{id}", 50, c -> {
+                LoadContext.OwnerSession owner = c.owner();
+                return c.get("/api/order/store/" + owner.storeId(), owner.token());
+            }),
+            new Step("POST /api/order/day", 30, c -> c.postJson("/api/order/day", c.owner().token(),
+                    "{\"startDay\":\"2025-10-01\",\"endDay\":\"2025-10-31\"}")),
+            new Step("GET /api/menu/store/{storeId}", 20, c -> {
+                LoadContext.OwnerSession owner = c.owner();
+                return c.get("/api/menu/store/" + owner.storeId(), owner.token());
+            })
+    )),
+
+    // 관리자 리포팅
+    ADMIN(List.of(
+            new Step("GET /api/order/list", 30, c -> c.get("/api/order/list", c.adminToken())),
+            new Step("POST /api/order/sales", 50, c -> c.postJson("/api/order/sales", c.adminToken(),
+                    String.format("{\"storeId\":%d,\"month\":\"%s\"}", c.storeId(), c.month()))),
+            new Step("GET /api/store/all", 20, c -> c.get("/api/store/all", c.adminToken()))
+    ));
+
+    record Step(String endpoint, int weight, Function<LoadContext, HttpRequest.Builder> request) {
+    }
+
+    private final List<Step> steps;
+    private final int totalWeight;
+
+    Scenario(List<Step> steps) {
+        this.steps = steps;
+        this.totalWeight = steps.stream().mapToInt(Step::weight).sum();
+    }
+
+    Step pick() {
+        int roll = LoadContext.random().nextInt(totalWeight);
+        for (Step step : steps) {
+            roll -= step.weight();
+            if (roll < 0) return step;
+        }
+        return steps.get(steps.size() - 1);
+    }
+}
@@ -0,0 +1,153 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// DDL/DDL 스키마(members, stores, menus, orders)에 맞춰 같은 시드면 항상 같은 데이터를 만든다.
+// 주문은 한 건씩 만들어 바로 sink 로 흘려보내므로 5천만 건도 메모리에 올리지 않는다.
+// 비어 있는 테이블에 넣는 것을 전제로 하며(id 는 AUTO_INCREMENT 가 1부터 배정), 상점 id 가 작을수록 인기 상점이다.
+public class DatasetGenerator {
+
+    // 시간대별 주문 비중 (0시~23시): 점심(11~13시), 저녁(17~20시) 피크
+    private static final int[] HOUR_WEIGHTS = {
+            3, 2, 1, 1, 1, 1, 1, 2, 3, 4, 6, 14,
+            18, 12, 5, 4, 6, 12, 18, 17, 11, 7, 5, 4
+    };
+
+    private final DatasetSpec spec;
+    private final Random random;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.random = new Random(spec.getSeed());
+    }
+
+    public void generate(RowSink sink) throws Exception {
+        members(sink);
+        int[] categories = stores(sink);
+        int[] prices = menus(sink, categories);
+        orders(sink, prices);
+    }
+
+    private void members(RowSink sink) throws Exception {
+        sink.begin("members", List.of("userid", "userpw", "name", "birth", "phone", "email", "address", "role", "point", "created_at"));
+        for (int i = 1; i <= spec.getUsers(); i++) {
+            member(sink, "user" + i, "USER", spec.getStartingPoint());
+        }
+        for (int i = 1; i <= spec.getStores(); i++) {
+            member(sink, "owner" + i, "OWNER", 0);
+        }
+        member(sink, "admin01", "ADMIN", 0);
+        sink.end();
+    }
+
+    private void member(RowSink sink, String userid, String role, int point) throws Exception {
+        String birth = LocalDate.of(1960 + random.nextInt(46), 1 + random.nextInt(12), 1 + random.nextInt(28)).toString();
+        sink.row(userid, "pw" + userid, KoreanNames.personName(random), birth, KoreanNames.phone(random),
+                userid + "@example.com", KoreanNames.homeAddress(random), role, point, signupDay());
+    }
+
+    private int[] stores(RowSink sink) throws Exception {
+        int[] categories = new int[spec.getStores() + 1];
+        sink.begin("stores", List.of("member_id", "category", "name", "address", "phone",
+                "open_h", "open_m", "closed_h", "closed_m", "thumbnail", "created_at"));
+        for (int storeId = 1; storeId <= spec.getStores(); storeId++) {
+            int category = random.nextInt(KoreanNames.CATEGORIES.length);
+            categories[storeId] = category;
+            boolean lateNight = KoreanNames.CATEGORIES[category].equals("야식") || KoreanNames.CATEGORIES[category].equals("치킨");
+            sink.row(spec.ownerMemberId(storeId), KoreanNames.CATEGORIES[category],
+                    KoreanNames.storeName(random, category, storeId), KoreanNames.streetAddress(random),
+                    String.format("02-%03d-%04d", random.nextInt(1_000), random.nextInt(10_000)),
+                    lateNight ? 16 : 9 + random.nextInt(3), random.nextBoolean() ? 0 : 30,
+                    lateNight ? 2 : 21 + random.nextInt(3), 0, null, signupDay());
+        }
+        sink.end();
+        return categories;
+    }
+
+    private int[] menus(RowSink sink, int[] categories) throws Exception {
+        int[] prices = new int[spec.getStores() * spec.getMenusPerStore() + 1];
+        sink.begin("menus", List.of("store_id", "title", "content", "price", "thumbnail"));
+        for (int storeId = 1; storeId <= spec.getStores(); storeId++) {
+            int category = categories[storeId];
+            for (int m = 0; m < spec.getMenusPerStore(); m++) {
+                int price = KoreanNames.menuPrice(random, category);
+                String title = KoreanNames.menuTitle(category, m);
+                prices[spec.menuId(storeId, m)] = price;
+                sink.row(storeId, title, "정성껏 만든 " + title, price, null);
+            }
+        }
+        sink.end();
+        return prices;
+    }
+
+    private void orders(RowSink sink, int[] prices) throws Exception {
+        double[] storeCdf = zipfCdf(spec.getStores(), spec.getStoreSkew());
+        int[] hourCdf = cumulative(HOUR_WEIGHTS);
+        sink.begin("orders", List.of("member_id", "store_id", "menu_id", "quantity", "total_price", "created_at"));
+        for (long i = 1; i <= spec.getOrders(); i++) {
+            int storeId = 1 + lowerBound(storeCdf, random.nextDouble());
+            // 가게마다 잘 팔리는 메뉴가 앞쪽에 몰리도록 제곱 분포 사용
+            int menuId = spec.menuId(storeId, (int) (Math.pow(random.nextDouble(), 2) * spec.getMenusPerStore()));
+            int quantity = quantity();
+            // 단골이 주문을 더 많이 하도록 회원도 약하게 치우친다
+            int memberId = 1 + (int) (Math.pow(random.nextDouble(), 1.5) * spec.getUsers());
+            int hour = lowerBound(hourCdf, random.nextInt(hourCdf[hourCdf.length - 1]) + 1);
+            String createdAt = String.format("%s %02d:%02d",
+                    spec.getFirstDay().plusDays(random.nextInt(spec.getDays())), hour, random.nextInt(60));
+            sink.row(memberId, storeId, menuId, quantity, quantity * prices[menuId], createdAt);
+            if (i % 1_000_000 == 0) {
+                System.out.printf("orders %,d / %,d%n", i, spec.getOrders());
+            }
+        }
+        sink.end();
+    }
+
+    private int quantity() {
+        int roll = random.nextInt(100);
+        if (roll < 70) return 1;
+        if (roll < 92) return 2;
+        return 3 + random.nextInt(3);
+    }
+
+    private String signupDay() {
+        return spec.getFirstDay().minusDays(random.nextInt(3 * 365)).toString();
+    }
+
+    private static double[] zipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, skew);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) cdf[i] /= sum;
+        return cdf;
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] cdf = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum;
+        }
+        return cdf;
+    }
+
+    // cdf[i] >= value 인 첫 인덱스
+    private static int lowerBound(double[] cdf, double value) {
+        int index = Arrays.binarySearch(cdf, value);
+        return Math.min(cdf.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private static int lowerBound(int[] cdf, int value) {
+        int index = Arrays.binarySearch(cdf, value);
+        if (index < 0) return -index - 1;
+        // 가중치 0 인 구간으로 같은 값이 이어질 수 있으므로 첫 위치로 당긴다
+        while (index > 0 && cdf[index - 1] == value) index--;
+        return index;
+    }
+}
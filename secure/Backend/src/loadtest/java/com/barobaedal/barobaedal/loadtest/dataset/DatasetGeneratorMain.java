@@ -0,0 +1,71 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+// --orders=10000000 [--users=..] [--stores=..] [--menus-per-store=12] [--seed=42] [--skew=1.1]
+//   --out=build/dataset                     -> TSV + load.sql (LOAD DATA LOCAL INFILE)
+//   --jdbc-url=jdbc:mariadb://.. --user=.. --password=.. [--rows-per-statement=500] -> 다중 행 INSERT 로 직접 적재
+public class DatasetGeneratorMain {
+
+    public static void main(String[] args) throws Exception {
+        long orders = 10_000;
+        long seed = 42;
+        Integer users = null;
+        Integer stores = null;
+        Integer menusPerStore = null;
+        Double skew = null;
+        String out = "build/dataset";
+        String jdbcUrl = null;
+        String user = null;
+        String password = "";
+        int rowsPerStatement = 500;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "orders" -> orders = Long.parseLong(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "users" -> users = Integer.parseInt(value);
+                case "stores" -> stores = Integer.parseInt(value);
+                case "menus-per-store" -> menusPerStore = Integer.parseInt(value);
+                case "skew" -> skew = Double.parseDouble(value);
+                case "out" -> out = value;
+                case "jdbc-url" -> jdbcUrl = value;
+                case "user" -> user = value;
+                case "password" -> password = value;
+                case "rows-per-statement" -> rowsPerStatement = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+
+        DatasetSpec.DatasetSpecBuilder builder = DatasetSpec.forOrders(orders, seed).toBuilder();
+        if (users != null) builder.users(users);
+        if (stores != null) builder.stores(stores);
+        if (menusPerStore != null) builder.menusPerStore(menusPerStore);
+        if (skew != null) builder.storeSkew(skew);
+        DatasetSpec spec = builder.build();
+        System.out.printf("users=%,d stores=%,d menus=%,d orders=%,d seed=%d%n", spec.getUsers(), spec.getStores(),
+                spec.getStores() * spec.getMenusPerStore(), spec.getOrders(), spec.getSeed());
+
+        long start = System.nanoTime();
+        if (jdbcUrl != null) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password);
+                 RowSink sink = new JdbcRowSink(connection, rowsPerStatement)) {
+                new DatasetGenerator(spec).generate(sink);
+            }
+        } else {
+            try (RowSink sink = new TsvRowSink(Path.of(out))) {
+                new DatasetGenerator(spec).generate(sink);
+            }
+            System.out.println("load script -> " + Path.of(out, "load.sql").toAbsolutePath());
+        }
+        System.out.printf("done in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+}
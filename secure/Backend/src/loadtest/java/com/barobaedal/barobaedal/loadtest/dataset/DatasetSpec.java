@@ -0,0 +1,53 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 생성할 데이터 규모. 주문 수만 주면 나머지는 운영 비율(주문 1000건당 상점 1개, 20건당 회원 1명)로 맞춘다.
+// 회원 아이디/비밀번호 규칙: user1..N / owner1..S (상점 i 의 사장님) / admin01, 비밀번호는 "pw" + 아이디
+@Getter
+@Builder(toBuilder = true)
+public class DatasetSpec {
+
+    private final int users;
+    private final int stores;
+    private final int menusPerStore;
+    private final long orders;
+    private final long seed;
+    // 일반 회원 초기 포인트
+    private final int startingPoint;
+    // 상점 인기도 Zipf 지수 (클수록 소수 상점에 주문이 몰림)
+    private final double storeSkew;
+    private final LocalDate firstDay;
+    private final int days;
+
+    public static DatasetSpec forOrders(long orders, long seed) {
+        return DatasetSpec.builder()
+                .users((int) Math.min(5_000_000, Math.max(1_000, orders / 20)))
+                .stores((int) Math.min(50_000, Math.max(50, orders / 1_000)))
+                .menusPerStore(12)
+                .orders(orders)
+                .seed(seed)
+                .startingPoint(50_000)
+                .storeSkew(1.1)
+                .firstDay(LocalDate.of(2025, 1, 1))
+                .days(365)
+                .build();
+    }
+
+    // owner i 의 회원 id
+    public int ownerMemberId(int storeId) {
+        return users + storeId;
+    }
+
+    public int adminMemberId() {
+        return users + stores + 1;
+    }
+
+    // 메뉴 id 는 상점 순서대로 menusPerStore 개씩 연속 배정된다
+    public int menuId(int storeId, int index) {
+        return (storeId - 1) * menusPerStore + index + 1;
+    }
+}
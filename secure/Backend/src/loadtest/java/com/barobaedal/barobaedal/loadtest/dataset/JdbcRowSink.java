@@ -0,0 +1,76 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// INSERT INTO t (...) VALUES (...),(...),... 형태의 다중 행 INSERT 로 묶어서 넣는다.
+// 문장 하나마다 커밋하므로 대량 적재 중에도 언두 로그가 커지지 않는다.
+public class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int rowsPerStatement;
+    private final boolean autoCommit;
+
+    private String table;
+    private List<String> columns;
+    private PreparedStatement fullStatement;
+    private final List<Object[]> buffer = new ArrayList<>();
+
+    public JdbcRowSink(Connection connection, int rowsPerStatement) throws Exception {
+        this.connection = connection;
+        this.rowsPerStatement = rowsPerStatement;
+        this.autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+    }
+
+    @Override
+    public void begin(String table, List<String> columns) throws Exception {
+        this.table = table;
+        this.columns = columns;
+        this.fullStatement = connection.prepareStatement(insertSql(rowsPerStatement));
+    }
+
+    @Override
+    public void row(Object... values) throws Exception {
+        buffer.add(values);
+        if (buffer.size() == rowsPerStatement) {
+            flush(fullStatement);
+        }
+    }
+
+    @Override
+    public void end() throws Exception {
+        if (!buffer.isEmpty()) {
+            try (PreparedStatement tail = connection.prepareStatement(insertSql(buffer.size()))) {
+                flush(tail);
+            }
+        }
+        fullStatement.close();
+    }
+
+    @Override
+    public void close() throws Exception {
+        connection.setAutoCommit(autoCommit);
+    }
+
+    private void flush(PreparedStatement statement) throws Exception {
+        int index = 1;
+        for (Object[] row : buffer) {
+            for (Object value : row) {
+                statement.setObject(index++, value);
+            }
+        }
+        statement.executeUpdate();
+        connection.commit();
+        buffer.clear();
+    }
+
+    private String insertSql(int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+}
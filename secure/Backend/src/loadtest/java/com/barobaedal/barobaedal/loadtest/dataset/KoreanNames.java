@@ -0,0 +1,90 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.util.Random;
+
+// 한국 이름/주소/상호/메뉴 조합용 단어 목록
+final class KoreanNames {
+
+    // 성씨는 실제 분포처럼 앞쪽일수록 자주 나오도록 가중치를 둔다
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final int[] SURNAME_WEIGHTS = {21, 15, 8, 5, 4, 2, 2, 2, 2, 2, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+    private static final String[] GIVEN = {"민", "서", "지", "현", "우", "준", "도", "하", "윤", "수", "영", "진", "은", "예", "주", "승", "태", "유", "재", "혜", "성", "경", "다", "연"};
+
+    private static final String[][] REGIONS = {
+            {"서울시", "강남구", "역삼동", "삼성동", "논현동"}, {"서울시", "마포구", "합정동", "서교동", "망원동"},
+            {"서울시", "송파구", "잠실동", "문정동", "가락동"}, {"서울시", "관악구", "신림동", "봉천동"},
+            {"부산시", "해운대구", "우동", "중동", "좌동"}, {"부산시", "남구", "대연동", "용호동"},
+            {"대구시", "수성구", "범어동", "만촌동"}, {"인천시", "남동구", "구월동", "논현동"},
+            {"광주시", "서구", "화정동", "치평동"}, {"대전시", "유성구", "봉명동", "궁동"},
+            {"경기도", "성남시", "정자동", "서현동"}, {"경기도", "수원시", "인계동", "영통동"}
+    };
+    private static final String[] ROADS = {"테헤란로", "월드컵북로", "올림픽로", "센텀로", "달구벌대로", "예술로", "대학로", "중앙로", "시청로", "역전로"};
+
+    static final String[] CATEGORIES = {"한식", "중식", "일식", "양식", "치킨", "피자", "분식", "카페", "패스트푸드", "야식"};
+    private static final String[] STORE_PREFIX = {"원조", "명가", "행복한", "우리동네", "엄마손", "대박", "황금", "옛날", "소문난", "진짜"};
+    private static final String[][] MENUS = {
+            {"김치찌개", "된장찌개", "제육볶음", "비빔밥", "불고기", "순두부찌개"},
+            {"짜장면", "짬뽕", "탕수육", "볶음밥", "마파두부", "깐풍기"},
+            {"초밥", "우동", "돈카츠", "라멘", "회덮밥", "연어덮밥"},
+            {"스테이크", "파스타", "리조또", "샐러드", "그라탕", "수프"},
+            {"후라이드치킨", "양념치킨", "간장치킨", "반반치킨", "순살치킨", "치킨무"},
+            {"페퍼로니피자", "치즈피자", "고구마피자", "불고기피자", "포테이토피자", "콜라"},
+            {"떡볶이", "순대", "튀김", "김밥", "라볶이", "어묵"},
+            {"아메리카노", "카페라떼", "바닐라라떼", "콜드브루", "케이크", "스콘"},
+            {"불고기버거", "치즈버거", "감자튀김", "치킨버거", "세트메뉴", "너겟"},
+            {"족발", "보쌈", "닭발", "곱창", "막창", "쟁반국수"}
+    };
+    private static final int[][] MENU_PRICE = {
+            {7000, 12000}, {6000, 20000}, {9000, 25000}, {12000, 35000}, {16000, 24000},
+            {18000, 30000}, {3000, 8000}, {3500, 7000}, {3000, 10000}, {20000, 40000}
+    };
+
+    private static final int SURNAME_TOTAL;
+
+    static {
+        int total = 0;
+        for (int weight : SURNAME_WEIGHTS) total += weight;
+        SURNAME_TOTAL = total;
+    }
+
+    private KoreanNames() {
+    }
+
+    static String personName(Random random) {
+        int roll = random.nextInt(SURNAME_TOTAL);
+        int i = 0;
+        while (roll >= SURNAME_WEIGHTS[i]) roll -= SURNAME_WEIGHTS[i++];
+        return SURNAMES[i] + GIVEN[random.nextInt(GIVEN.length)] + GIVEN[random.nextInt(GIVEN.length)];
+    }
+
+    static String homeAddress(Random random) {
+        String[] region = REGIONS[random.nextInt(REGIONS.length)];
+        return region[0] + " " + region[1] + " " + region[2 + random.nextInt(region.length - 2)];
+    }
+
+    static String streetAddress(Random random) {
+        String[] region = REGIONS[random.nextInt(REGIONS.length)];
+        return region[0] + " " + region[1] + " " + ROADS[random.nextInt(ROADS.length)] + " " + (1 + random.nextInt(500));
+    }
+
+    static String storeName(Random random, int category, int storeId) {
+        String signature = MENUS[category][random.nextInt(MENUS[category].length)];
+        return STORE_PREFIX[random.nextInt(STORE_PREFIX.length)] + " " + signature + " " + storeId + "호점";
+    }
+
+    static String menuTitle(int category, int index) {
+        String[] menus = MENUS[category];
+        String base = menus[index % menus.length];
+        return index < menus.length ? base : base + " " + (index / menus.length + 1) + "인분";
+    }
+
+    // 100원 단위 가격
+    static int menuPrice(Random random, int category) {
+        int[] range = MENU_PRICE[category];
+        return (range[0] + random.nextInt(range[1] - range[0] + 1)) / 100 * 100;
+    }
+
+    static String phone(Random random) {
+        return String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+    }
+}
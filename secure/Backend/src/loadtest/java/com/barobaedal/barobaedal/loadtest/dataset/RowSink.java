@@ -0,0 +1,17 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.util.List;
+
+// 생성된 행을 받아 DB 또는 파일로 흘려보내는 대상. 테이블 단위로 begin -> row... -> end 순서로 호출된다.
+public interface RowSink extends AutoCloseable {
+
+    void begin(String table, List<String> columns) throws Exception;
+
+    void row(Object... values) throws Exception;
+
+    void end() throws Exception;
+
+    @Override
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,75 @@
+package com.barobaedal.barobaedal.loadtest.dataset;
+
+import java.io.BufferedWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 테이블별 <table>.tsv 와 이를 적재하는 load.sql(LOAD DATA LOCAL INFILE) 을 만든다.
+// 대량 적재는 JDBC INSERT 보다 LOAD DATA 가 한 자릿수 이상 빠르다.
+//   mariadb --local-infile=1 d_project < build/dataset/load.sql
+public class TsvRowSink implements RowSink {
+
+    private final Path directory;
+    private final StringBuilder script = new StringBuilder();
+    private final StringBuilder line = new StringBuilder(256);
+    private BufferedWriter writer;
+
+    public TsvRowSink(Path directory) throws Exception {
+        this.directory = Files.createDirectories(directory);
+        script.append("SET foreign_key_checks = 0;\nSET unique_checks = 0;\n");
+    }
+
+    @Override
+    public void begin(String table, List<String> columns) throws Exception {
+        Path file = directory.resolve(table + ".tsv").toAbsolutePath();
+        writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 20);
+        script.append("LOAD DATA LOCAL INFILE '").append(file.toString().replace("\\", "/")).append("'\n")
+                .append("    INTO TABLE ").append(table).append(" CHARACTER SET utf8mb4\n")
+                .append("    FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n'\n")
+                .append("    (").append(String.join(", ", columns)).append(");\n");
+    }
+
+    @Override
+    public void row(Object... values) throws Exception {
+        line.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) line.append('\t');
+            append(values[i]);
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    @Override
+    public void end() throws Exception {
+        writer.close();
+    }
+
+    @Override
+    public void close() throws Exception {
+        script.append("SET unique_checks = 1;\nSET foreign_key_checks = 1;\n");
+        try (Writer out = Files.newBufferedWriter(directory.resolve("load.sql"), StandardCharsets.UTF_8)) {
+            out.write(script.toString());
+        }
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            line.append("\\N");
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\\' -> line.append("\\\\");
+                default -> line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+-- 부하 테스트용 H2(MariaDB 모드) 스키마 : DDL/DDL (db/migration 적용 후 스키마) 과 동일한 구조 유지
+CREATE ALIAS IF NOT EXISTS STR_TO_DATE FOR 'com.barobaedal.barobaedal.loadtest.H2Functions.strToDate';
+CREATE ALIAS IF NOT EXISTS DATE_FORMAT FOR 'com.barobaedal.barobaedal.loadtest.H2Functions.dateFormat';
+
+-- 회원 정보
+CREATE TABLE members (
+    id INT NOT NULL AUTO_INCREMENT,
+    userid VARCHAR(100) NOT NULL,
+    userpw VARCHAR(100) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    birth VARCHAR(20) NOT NULL,
+    phone VARCHAR(20) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    role VARCHAR(10) NOT NULL,
+    point INT NOT NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_members_userid UNIQUE (userid)
+);
+
+-- 가게 정보
+CREATE TABLE stores (
+    id INT NOT NULL AUTO_INCREMENT,
+    member_id INT NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone VARCHAR(20) NOT NULL,
+    open_h INT NOT NULL,
+    open_m INT NOT NULL,
+    closed_h INT NOT NULL,
+    closed_m INT NOT NULL,
+    thumbnail VARCHAR(100) NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_store_member_id FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_stores_member ON stores (member_id);
+
+-- 메뉴 정보
+CREATE TABLE menus (
+    id INT NOT NULL AUTO_INCREMENT,
+    store_id INT NOT NULL,
+    title VARCHAR(50) NOT NULL,
+    content VARCHAR(200) NOT NULL,
+    price INT NOT NULL,
+    thumbnail VARCHAR(100) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_menu_store_id FOREIGN KEY (store_id) REFERENCES stores (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_menus_store ON menus (store_id, id);
+
+-- 주문 정보
+CREATE TABLE orders (
+    id INT NOT NULL AUTO_INCREMENT,
+    member_id INT NOT NULL,
+    store_id INT NOT NULL,
+    menu_id INT NOT NULL,
+    quantity INT NOT NULL,
+    total_price INT NOT NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_store_id FOREIGN KEY (store_id) REFERENCES stores (id) ON DELETE CASCADE,
+    CONSTRAINT fk_order_menu_id FOREIGN KEY (menu_id) REFERENCES menus (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_orders_member_created ON orders (member_id, created_at);
+CREATE INDEX idx_orders_store_created ON orders (store_id, created_at);
+CREATE INDEX idx_orders_created ON orders (created_at);
+
+-- 게시판
+CREATE TABLE boards (
+    id INT NOT NULL AUTO_INCREMENT,
+    category VARCHAR(20) NOT NULL,
+    member_id INT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    created_at VARCHAR(20) NOT NULL,
+    comment_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_board_member_id FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_boards_category ON boards (category, id);
+CREATE INDEX idx_boards_category_member ON boards (category, member_id, id);
+
+-- 댓글
+CREATE TABLE comments (
+    id INT NOT NULL AUTO_INCREMENT,
+    board_id INT NOT NULL,
+    member_id INT NOT NULL,
+    content VARCHAR(500) NOT NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_board_id FOREIGN KEY (board_id) REFERENCES boards (id) ON DELETE CASCADE,
+    CONSTRAINT fk_comment_member_id FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_comments_board ON comments (board_id, id);
+
+-- 포인트 원장
+CREATE TABLE point_ledger (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    member_id INT NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    amount INT NOT NULL,
+    balance_after INT NOT NULL,
+    idempotency_key VARCHAR(64) NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_point_ledger_idempotency UNIQUE (member_id, idempotency_key),
+    CONSTRAINT fk_point_ledger_member_id FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_point_ledger_member ON point_ledger (member_id, id);
+
+-- Idempotency-Key 별 첫 응답
+CREATE TABLE idempotency_keys (
+    owner VARCHAR(120) NOT NULL,
+    idem_key VARCHAR(64) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    status INT NOT NULL,
+    content_type VARCHAR(100) NULL,
+    body BLOB NOT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (owner, idem_key)
+);
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+-- 로그아웃한 토큰
+CREATE TABLE revoked_tokens (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    jti VARCHAR(64) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_revoked_tokens_jti UNIQUE (jti)
+);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+-- 캐시 무효화 이벤트
+CREATE TABLE cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    origin VARCHAR(128) NOT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
+
+-- 주문 이벤트 아웃박스
+CREATE TABLE order_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    event_type VARCHAR(32) NOT NULL,
+    order_id INT NOT NULL,
+    store_id INT NOT NULL,
+    member_id INT NOT NULL,
+    menu_id INT NOT NULL,
+    quantity INT NOT NULL,
+    total_price INT NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    available_at BIGINT NOT NULL,
+    created_at BIGINT NOT NULL,
+    processed_at BIGINT NULL,
+    last_error VARCHAR(500) NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_order_events_pending ON order_events (status, available_at);
+CREATE INDEX idx_order_events_processed_at ON order_events (processed_at);
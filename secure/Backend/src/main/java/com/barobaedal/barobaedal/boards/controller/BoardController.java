@@ -1,11 +1,14 @@
 package com.barobaedal.barobaedal.boards.controller;
 
 import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.CommentDto;
 import com.barobaedal.barobaedal.boards.service.BoardService;
+import com.barobaedal.barobaedal.boards.service.CommentService;
+import com.barobaedal.barobaedal.boards.service.NoticeSnapshot;
+import com.barobaedal.barobaedal.common.auth.LoginUser;
 import com.barobaedal.barobaedal.common.exception.BaseException;
 import com.barobaedal.barobaedal.common.response.CommonResponse;
 import com.barobaedal.barobaedal.common.response.ResponseType;
-import com.barobaedal.barobaedal.common.JwtUtil;
 import com.barobaedal.barobaedal.members.repository.MemberRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.*;
@@ -18,8 +21,8 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final CommentService commentService;
     private final MemberRepository memberRepository;
-    private final JwtUtil jwtUtil;
 
     private String getRole(String userid) {
         if (userid == null) {
@@ -31,12 +34,9 @@ public class BoardController {
     private Integer getMemberId(String userid) {  return memberRepository.getMemberId(userid);  }
 
     @GetMapping
-    public CommonResponse<Object> getBoards(@RequestHeader(value = "Authorization", required = false) String authHeader, @RequestParam String category) {
-        String userid = jwtUtil.auth(authHeader);
-        if (userid == null) {
-            throw new BaseException("로그인이 필요합니다.");
-        }
-        String role = getRole(userid);
+    public CommonResponse<Object> getBoards(@LoginUser String userid, @RequestParam String category) {
+        // 공지는 역할과 상관없이 같은 스냅샷이라 역할 조회 생략
+        String role = NoticeSnapshot.isNotice(category) ? null : getRole(userid);
         List<BoardDto> boards = boardService.getBoardsByCategory(category, role, userid);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
@@ -45,17 +45,29 @@ public class BoardController {
                 .build();
     }
 
-    @GetMapping("/{id}")
-    public CommonResponse<Object> getBoard(@RequestHeader(value = "Authorization", required = false) String authHeader, @PathVariable Integer id) {
-        String userid = jwtUtil.auth(authHeader);
-        if (userid == null) throw new BaseException("로그인이 필요합니다.");
+    // 목록 페이지 (제목/작성자/작성일만, 본문은 /{id} 로 조회). cursor 는 이전 응답의 nextCursor
+    @GetMapping("/list")
+    public CommonResponse<Object> getBoardPage(@LoginUser String userid,
+                                               @RequestParam String category,
+                                               @RequestParam(value = "cursor", required = false) Integer cursor,
+                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        String role = NoticeSnapshot.isNotice(category) ? null : getRole(userid);
+        return CommonResponse.builder()
+                .responseType(ResponseType.SUCCESS)
+                .data(boardService.getBoardPage(category, role, userid, cursor, size))
+                .message("리스트 보기")
+                .build();
+    }
 
+    @GetMapping("/{id}")
+    public CommonResponse<Object> getBoard(@LoginUser String userid, @PathVariable Integer id) {
         BoardDto board = boardService.getBoardById(id);
         if (board == null) throw new BaseException("게시물이 없습니다.");
 
-        String role = getRole(userid);
-        board.setUserid(userid);
-        if (!boardService.canRead(board, role, userid)) throw new BaseException("권한이 없습니다.");
+        if (!NoticeSnapshot.isNotice(board.getCategory())) {
+            String role = getRole(userid);
+            if (!boardService.canRead(board, role, userid)) throw new BaseException("권한이 없습니다.");
+        }
 
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
@@ -66,11 +78,7 @@ public class BoardController {
 
     // 문의사항, 공지사항 게시판 글쓰기
     @PostMapping
-    public CommonResponse<Object> createBoard(@RequestHeader(value = "Authorization", required = false) String authHeader,@RequestBody BoardDto dto) {
-        String userid = jwtUtil.auth(authHeader);
-
-        if (userid == null) throw new BaseException("로그인이 필요합니다.");
-
+    public CommonResponse<Object> createBoard(@LoginUser String userid,@RequestBody BoardDto dto) {
 
         String role = getRole(userid);
         Integer memberId = getMemberId(userid);
@@ -88,11 +96,7 @@ public class BoardController {
 
     // 게시글 수정
     @PostMapping("/update/{id}")
-    public CommonResponse<Object> updateBoard(@RequestHeader(value = "Authorization", required = false) String authHeader, @PathVariable Integer id, @RequestBody BoardDto dto) {
-        String userid = jwtUtil.auth(authHeader);
-
-       if (userid == null) throw new BaseException("로그인이 필요합니다.");
-
+    public CommonResponse<Object> updateBoard(@LoginUser String userid, @PathVariable Integer id, @RequestBody BoardDto dto) {
        String role = getRole(userid);
        dto.setId(id);
        dto.setMemberId(getMemberId(userid));
@@ -105,10 +109,7 @@ public class BoardController {
     }
 
     @GetMapping("/delete/{id}")
-    public CommonResponse<Object> deleteBoard(@RequestHeader(value = "Authorization", required = false) String authHeader, @PathVariable Integer id, HttpServletRequest request) {
-        String userid = jwtUtil.auth(authHeader);
-        if (userid == null) throw new BaseException("로그인이 필요합니다.");
-
+    public CommonResponse<Object> deleteBoard(@LoginUser String userid, @PathVariable Integer id, HttpServletRequest request) {
         String role = getRole(userid);
         try {
             boardService.deleteBoard(id, role, userid);
@@ -117,4 +118,62 @@ public class BoardController {
             throw new BaseException(e.getMessage());
         }
     }
+
+    // 게시글 + 댓글 한 페이지 (오래된 순, cursor 는 이전 응답의 nextCursor)
+    @GetMapping("/{id}/thread")
+    public CommonResponse<Object> getThread(@LoginUser String userid,
+                                            @PathVariable Integer id,
+                                            @RequestParam(value = "cursor", required = false) Integer cursor,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        String role = getRole(userid);
+        try {
+            return CommonResponse.builder()
+                    .responseType(ResponseType.SUCCESS)
+                    .data(commentService.getThread(id, role, userid, cursor, size))
+                    .message("상세보기")
+                    .build();
+        } catch (SecurityException | IllegalArgumentException e) {
+            throw new BaseException(e.getMessage());
+        }
+    }
+
+    // 댓글 작성
+    @PostMapping("/{id}/comment")
+    public CommonResponse<Object> createComment(@LoginUser String userid,
+                                                @PathVariable Integer id,
+                                                @RequestBody CommentDto dto) {
+        String role = getRole(userid);
+        try {
+            CommentDto comment = commentService.createComment(id, dto.getContent(), role, userid);
+            return CommonResponse.builder().responseType(ResponseType.SUCCESS).data(comment).message("댓글 작성").build();
+        } catch (SecurityException | IllegalArgumentException e) {
+            throw new BaseException(e.getMessage());
+        }
+    }
+
+    // 댓글 수정
+    @PostMapping("/comment/update/{commentId}")
+    public CommonResponse<Object> updateComment(@LoginUser String userid,
+                                                @PathVariable Integer commentId,
+                                                @RequestBody CommentDto dto) {
+        String role = getRole(userid);
+        try {
+            CommentDto comment = commentService.updateComment(commentId, dto.getContent(), role, userid);
+            return CommonResponse.builder().responseType(ResponseType.SUCCESS).data(comment).message("댓글 수정").build();
+        } catch (SecurityException | IllegalArgumentException e) {
+            throw new BaseException(e.getMessage());
+        }
+    }
+
+    @GetMapping("/comment/delete/{commentId}")
+    public CommonResponse<Object> deleteComment(@LoginUser String userid,
+                                                @PathVariable Integer commentId) {
+        String role = getRole(userid);
+        try {
+            commentService.deleteComment(commentId, role, userid);
+            return CommonResponse.builder().responseType(ResponseType.SUCCESS).data(null).message("댓글 삭제").build();
+        } catch (SecurityException | IllegalArgumentException e) {
+            throw new BaseException(e.getMessage());
+        }
+    }
 }
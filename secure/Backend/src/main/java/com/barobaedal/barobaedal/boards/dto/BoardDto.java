@@ -15,4 +15,5 @@ public class BoardDto {
     private String title;
     private String content;
     private String createdAt;
+    private Integer commentCount;
 }
\ No newline at end of file
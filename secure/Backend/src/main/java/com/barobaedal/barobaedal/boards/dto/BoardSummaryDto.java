@@ -0,0 +1,19 @@
+package com.barobaedal.barobaedal.boards.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 목록용 (본문 content 제외, 본문은 /api/board/{id} 로 조회)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardSummaryDto {
+    private Integer id;
+    private String category;
+    private Integer memberId;
+    private String userid;
+    private String title;
+    private String createdAt;
+    private Integer commentCount; // boards.comment_count (COUNT(*) 없이 목록 한 번의 쿼리로 댓글 수 표시)
+}
@@ -0,0 +1,16 @@
+package com.barobaedal.barobaedal.boards.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시글 + 댓글 한 페이지 (오래된 순)
+@Getter
+@AllArgsConstructor
+public class BoardThreadResponse {
+
+    private BoardDto board;
+    private List<CommentDto> comments;
+    private Integer nextCursor; // 다음 댓글 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+}
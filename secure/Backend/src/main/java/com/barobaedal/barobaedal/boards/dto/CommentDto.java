@@ -0,0 +1,17 @@
+package com.barobaedal.barobaedal.boards.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentDto {
+    private Integer id;
+    private Integer boardId;
+    private Integer memberId;
+    private String userid;
+    private String content;
+    private String createdAt;
+}
@@ -1,6 +1,7 @@
 package com.barobaedal.barobaedal.boards.repository;
 
 import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.BoardSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -9,12 +10,31 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class BoardRepository {
 
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다 (조건이 달라지는 쿼리는 경우마다 하나씩)
+    private static final String SELECT_WITH_USERID = "SELECT boards.*, members.userid " +
+            "FROM boards " +
+            "INNER JOIN members ON boards.member_id = members.id ";
+    public static final String FIND_BY_CATEGORY_SQL = SELECT_WITH_USERID +
+            "WHERE boards.category = ? ORDER BY boards.id DESC";
+    public static final String FIND_BY_CATEGORY_AND_MEMBER_SQL = SELECT_WITH_USERID +
+            "WHERE boards.category = ? AND boards.member_id = ? ORDER BY boards.id DESC";
+    public static final String FIND_PAGE_SQL = pageSql(false, false);
+    public static final String FIND_PAGE_AFTER_SQL = pageSql(false, true);
+    public static final String FIND_MEMBER_PAGE_SQL = pageSql(true, false);
+    public static final String FIND_MEMBER_PAGE_AFTER_SQL = pageSql(true, true);
+    public static final String FIND_BY_ID_SQL = SELECT_WITH_USERID + "WHERE boards.id = ?";
+    public static final String INSERT_SQL = "INSERT INTO boards (category, member_id, title, content, created_at) VALUES (?, ?, ?, ?, ?)";
+    public static final String UPDATE_SQL = "UPDATE boards SET title = ?, content = ? WHERE id = ? AND member_id = ?  AND category = ?";
+    public static final String ADD_COMMENT_COUNT_SQL = "UPDATE boards SET comment_count = comment_count + ? WHERE id = ?";
+    public static final String DELETE_SQL = "DELETE FROM boards WHERE id = ?";
+
     private final JdbcTemplate jdbcTemplate;
 
     private final RowMapper<BoardDto> rowMapper = (rs, rowNum) -> {
@@ -26,35 +46,65 @@ public class BoardRepository {
         dto.setTitle(rs.getString("title"));
         dto.setContent(rs.getString("content"));
         dto.setCreatedAt(rs.getString("created_at"));
+        dto.setCommentCount(rs.getInt("comment_count"));
         return dto;
     };
 
-    public List<BoardDto> findByCategory(String category) {
-        String sql = "SELECT boards.*, members.userid " +
-                "FROM boards " +
-                "INNER JOIN members ON boards.member_id = members.id " +
-                "WHERE boards.id IS NOT NULL AND " +
-                "boards.category = ? AND " +
-                "boards.member_id IS NOT NULL AND " +
-                "boards.title IS NOT NULL AND " +
-                "boards.content IS NOT NULL AND " +
-                "boards.created_at IS NOT NULL AND " +
-                "members.userid IS NOT NULL";
-        return jdbcTemplate.query(sql, rowMapper, category);
+    private final RowMapper<BoardSummaryDto> summaryRowMapper = (rs, rowNum) -> new BoardSummaryDto(
+            rs.getInt("id"),
+            rs.getString("category"),
+            rs.getInt("member_id"),
+            rs.getString("userid"),
+            rs.getString("title"),
+            rs.getString("created_at"),
+            rs.getInt("comment_count"));
+
+    // 카테고리 전체 목록 (memberId 가 있으면 해당 회원의 글만), 최신순
+    public List<BoardDto> findByCategory(String category, Integer memberId) {
+        if (memberId != null) {
+            return jdbcTemplate.query(FIND_BY_CATEGORY_AND_MEMBER_SQL, rowMapper, category, memberId);
+        }
+        return jdbcTemplate.query(FIND_BY_CATEGORY_SQL, rowMapper, category);
+    }
+
+    // 목록 한 페이지 (content 제외). (category[, member_id], id) 인덱스를 id 역순으로 읽다가 limit 에서 멈춤
+    public List<BoardSummaryDto> findPage(String category, Integer memberId, Integer cursor, int limit) {
+        String sql;
+        List<Object> args = new ArrayList<>();
+        args.add(category);
+        if (memberId != null) {
+            sql = cursor != null ? FIND_MEMBER_PAGE_AFTER_SQL : FIND_MEMBER_PAGE_SQL;
+            args.add(memberId);
+        } else {
+            sql = cursor != null ? FIND_PAGE_AFTER_SQL : FIND_PAGE_SQL;
+        }
+        if (cursor != null) {
+            args.add(cursor);
+        }
+        args.add(limit);
+        return jdbcTemplate.query(sql, summaryRowMapper, args.toArray());
+    }
+
+    private static String pageSql(boolean byMember, boolean afterCursor) {
+        return "SELECT b.id, b.category, b.member_id, m.userid, b.title, b.created_at, b.comment_count " +
+                "FROM boards b " +
+                "INNER JOIN members m ON b.member_id = m.id " +
+                "WHERE b.category = ? " +
+                (byMember ? "AND b.member_id = ? " : "") +
+                (afterCursor ? "AND b.id < ? " : "") +
+                "ORDER BY b.id DESC LIMIT ?";
     }
 
     public BoardDto findById(Integer id) {
-        String sql = "SELECT * FROM boards WHERE id = ?";
-        List<BoardDto> list = jdbcTemplate.query(sql, rowMapper, id);
+        List<BoardDto> list = jdbcTemplate.query(FIND_BY_ID_SQL, rowMapper, id);
         return list.isEmpty() ? null : list.get(0);
     }
 
     public BoardDto save(BoardDto dto) {
-        String sql = "INSERT INTO boards (category, member_id, title, content, created_at) VALUES (?, ?, ?, ?, ?)";
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
             ps.setString(1, dto.getCategory());
             ps.setInt(2, dto.getMemberId());
             ps.setString(3, dto.getTitle());
@@ -73,8 +123,7 @@ public class BoardRepository {
     }
 
     public BoardDto update(BoardDto dto) {
-        String sql = "UPDATE boards SET title = ?, content = ? WHERE id = ? AND member_id = ?  AND category = ?";
-        int updatedRows = jdbcTemplate.update(sql,
+        int updatedRows = jdbcTemplate.update(UPDATE_SQL,
                 dto.getTitle(),
                 dto.getContent(),
                 dto.getId(),
@@ -89,28 +138,12 @@ public class BoardRepository {
         }
     }
 
-    public int deleteById(Integer id) {
-        String sql = "DELETE FROM boards WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+    // 댓글 등록/삭제와 같은 트랜잭션에서 호출
+    public int addCommentCount(int boardId, int delta) {
+        return jdbcTemplate.update(ADD_COMMENT_COUNT_SQL, delta, boardId);
     }
 
-    public List<BoardDto> findByCategoryAndMemberId(String category, String role, String userid){
-        String sql1 = "SELECT boards.*, members.userid " +
-                "FROM boards " +
-                "INNER JOIN members ON boards.member_id = members.id " +
-                "WHERE boards.id IS NOT NULL AND " +
-                "boards.category = ? AND " +
-                "boards.member_id ";
-        String sql2 = "boards.title IS NOT NULL AND " +
-                "boards.content IS NOT NULL AND " +
-                "boards.created_at IS NOT NULL AND " +
-                "members.userid IS NOT NULL";
-
-        if (role.equalsIgnoreCase("ADMIN")){
-            return jdbcTemplate.query(sql1+"IS NOT NULL AND "+sql2, rowMapper, category);
-        }  else {
-            return jdbcTemplate.query(sql1+"= (SELECT id FROM members WHERE userid = ? AND role = ?) AND "+sql2, rowMapper, category, userid, role);
-        }
-
+    public int deleteById(Integer id) {
+        return jdbcTemplate.update(DELETE_SQL, id);
     }
 }
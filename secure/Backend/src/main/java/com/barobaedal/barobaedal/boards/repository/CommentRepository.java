@@ -0,0 +1,72 @@
+package com.barobaedal.barobaedal.boards.repository;
+
+import com.barobaedal.barobaedal.boards.dto.CommentDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepository {
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    private static final String SELECT_WITH_USERID = "SELECT c.id, c.board_id, c.member_id, m.userid, c.content, c.created_at " +
+            "FROM comments c " +
+            "INNER JOIN members m ON c.member_id = m.id ";
+    public static final String FIND_PAGE_SQL = SELECT_WITH_USERID + "WHERE c.board_id = ? ORDER BY c.id LIMIT ?";
+    public static final String FIND_PAGE_AFTER_SQL = SELECT_WITH_USERID + "WHERE c.board_id = ? AND c.id > ? ORDER BY c.id LIMIT ?";
+    public static final String FIND_BY_ID_SQL = SELECT_WITH_USERID + "WHERE c.id = ?";
+    public static final String INSERT_SQL = "INSERT INTO comments (board_id, member_id, content, created_at) VALUES (?, ?, ?, ?)";
+    public static final String UPDATE_SQL = "UPDATE comments SET content = ? WHERE id = ?";
+    public static final String DELETE_SQL = "DELETE FROM comments WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<CommentDto> rowMapper = (rs, rowNum) -> new CommentDto(
+            rs.getInt("id"),
+            rs.getInt("board_id"),
+            rs.getInt("member_id"),
+            rs.getString("userid"),
+            rs.getString("content"),
+            rs.getString("created_at"));
+
+    // 게시글의 댓글 한 페이지 (오래된 순). 작성자 userid 는 같은 쿼리에서 조인으로 함께 읽어 댓글마다 회원 조회를 하지 않음
+    public List<CommentDto> findPage(int boardId, Integer cursor, int limit) {
+        if (cursor != null) {
+            return jdbcTemplate.query(FIND_PAGE_AFTER_SQL, rowMapper, boardId, cursor, limit);
+        }
+        return jdbcTemplate.query(FIND_PAGE_SQL, rowMapper, boardId, limit);
+    }
+
+    public CommentDto findById(int id) {
+        List<CommentDto> list = jdbcTemplate.query(FIND_BY_ID_SQL, rowMapper, id);
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    public int save(CommentDto dto) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            ps.setInt(1, dto.getBoardId());
+            ps.setInt(2, dto.getMemberId());
+            ps.setString(3, dto.getContent());
+            ps.setString(4, dto.getCreatedAt());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+
+    public int update(int id, String content) {
+        return jdbcTemplate.update(UPDATE_SQL, content, id);
+    }
+
+    public int deleteById(int id) {
+        return jdbcTemplate.update(DELETE_SQL, id);
+    }
+}
@@ -1,7 +1,11 @@
 package com.barobaedal.barobaedal.boards.service;
 
 import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.BoardPageResponse;
+import com.barobaedal.barobaedal.boards.dto.BoardSummaryDto;
 import com.barobaedal.barobaedal.boards.repository.BoardRepository;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationBus;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
 import com.barobaedal.barobaedal.members.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,29 +17,65 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class BoardService {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
+    private final NoticeSnapshot noticeSnapshot;
+    private final InvalidationBus invalidationBus;
 
     public String getRoleByUserid(String userid){
         return memberRepository.getRole(userid);
     }
 
     public List<BoardDto> getBoardsByCategory(String category, String memberRole, String userid) {
-        if ("qna".equalsIgnoreCase(category) || "ADMIN".equalsIgnoreCase(memberRole)) {
-            return boardRepository.findByCategoryAndMemberId(category, memberRole, userid);
-        } else {
-            return boardRepository.findByCategory(category);
+        if (NoticeSnapshot.isNotice(category)) {
+            return noticeSnapshot.all();
+        }
+        return boardRepository.findByCategory(category, listMemberFilter(category, memberRole, userid));
+    }
+
+    // 목록 페이지 (최신순, cursor 는 이전 응답의 nextCursor)
+    public BoardPageResponse getBoardPage(String category, String memberRole, String userid, Integer cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (NoticeSnapshot.isNotice(category)) {
+            return noticeSnapshot.page(cursor, pageSize);
+        }
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<BoardSummaryDto> rows = boardRepository.findPage(
+                category, listMemberFilter(category, memberRole, userid), cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new BoardPageResponse(rows, null);
         }
+        List<BoardSummaryDto> page = rows.subList(0, pageSize);
+        return new BoardPageResponse(page, page.get(pageSize - 1).getId());
     }
 
+    // 문의(qna)는 관리자가 아니면 본인 글만 (null 이면 카테고리 전체)
+    private Integer listMemberFilter(String category, String memberRole, String userid) {
+        if (!"qna".equalsIgnoreCase(category) || "ADMIN".equalsIgnoreCase(memberRole)) {
+            return null;
+        }
+        Integer memberId = memberRepository.getMemberIdByUserid(userid);
+        return memberId != null ? memberId : 0; // 회원 정보가 없으면 빈 목록
+    }
 
     public BoardDto getBoardById(Integer id) {
+        // 공지는 스냅샷에서 (DB 조회 없음)
+        BoardDto notice = noticeSnapshot.find(id);
+        if (notice != null) {
+            return notice;
+        }
         return boardRepository.findById(id);
     }
 
     public BoardDto updateBoard(BoardDto dto, String memberRole, String userid) {
         validateCreateOrUpdate(dto, memberRole, userid);
-        return boardRepository.update(dto);
+        BoardDto updated = boardRepository.update(dto);
+        if (NoticeSnapshot.isNotice(dto.getCategory()) || noticeSnapshot.contains(dto.getId())) {
+            invalidationBus.publish(InvalidationEvent.NOTICE, dto.getId());
+        }
+        return updated;
     }
 
     public void deleteBoard(Integer id, String memberRole, String userid) {
@@ -48,7 +88,9 @@ public class BoardService {
         }
 
         boardRepository.deleteById(id);
-
+        if (NoticeSnapshot.isNotice(board.getCategory())) {
+            invalidationBus.publish(InvalidationEvent.NOTICE, id);
+        }
     }
 
     // 생성 수정 권한 검증
@@ -92,7 +134,11 @@ public class BoardService {
         // 작성자 ID 설정
         dto.setMemberId(id);
         dto.setCreatedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_DATE));
-        return boardRepository.save(dto);
+        BoardDto saved = boardRepository.save(dto);
+        if (NoticeSnapshot.isNotice(dto.getCategory())) {
+            invalidationBus.publish(InvalidationEvent.NOTICE, saved.getId());
+        }
+        return saved;
     }
 
     public Integer getMemberIdByUserid(String userid) {
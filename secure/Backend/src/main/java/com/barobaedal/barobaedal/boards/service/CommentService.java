@@ -0,0 +1,121 @@
+package com.barobaedal.barobaedal.boards.service;
+
+import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.BoardThreadResponse;
+import com.barobaedal.barobaedal.boards.dto.CommentDto;
+import com.barobaedal.barobaedal.boards.repository.BoardRepository;
+import com.barobaedal.barobaedal.boards.repository.CommentRepository;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationBus;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
+import com.barobaedal.barobaedal.members.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 댓글은 읽을 수 있는 게시글에만 작성 가능, 수정/삭제는 작성자 또는 관리자
+// boards.comment_count 는 댓글 등록/삭제와 같은 트랜잭션에서 증감한다.
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+    private final NoticeSnapshot noticeSnapshot;
+    private final BoardService boardService;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+
+    // 게시글 1건 + 댓글 한 페이지 (쿼리 2번)
+    public BoardThreadResponse getThread(int boardId, String role, String userid, Integer cursor, int size) {
+        BoardDto board = readableBoard(boardId, role, userid);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<CommentDto> rows = commentRepository.findPage(boardId, cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new BoardThreadResponse(board, rows, null);
+        }
+        List<CommentDto> page = rows.subList(0, pageSize);
+        return new BoardThreadResponse(board, page, page.get(pageSize - 1).getId());
+    }
+
+    public CommentDto createComment(int boardId, String content, String role, String userid) {
+        validateContent(content);
+        BoardDto board = readableBoard(boardId, role, userid);
+        Integer memberId = memberRepository.getMemberIdByUserid(userid);
+        if (memberId == null) {
+            throw new IllegalArgumentException("회원 정보가 없습니다.");
+        }
+
+        CommentDto dto = new CommentDto(null, boardId, memberId, userid, content, now());
+        transactionTemplate.executeWithoutResult(status -> {
+            dto.setId(commentRepository.save(dto));
+            boardRepository.addCommentCount(boardId, 1);
+            // 공지 목록에 보이는 댓글 수 갱신 (변경 행도 같은 트랜잭션으로 기록)
+            if (NoticeSnapshot.isNotice(board.getCategory())) {
+                invalidationBus.publish(InvalidationEvent.NOTICE, boardId);
+            }
+        });
+        return dto;
+    }
+
+    public CommentDto updateComment(int commentId, String content, String role, String userid) {
+        validateContent(content);
+        CommentDto comment = modifiableComment(commentId, role, userid);
+        commentRepository.update(commentId, content);
+        comment.setContent(content);
+        return comment;
+    }
+
+    public void deleteComment(int commentId, String role, String userid) {
+        CommentDto comment = modifiableComment(commentId, role, userid);
+        transactionTemplate.executeWithoutResult(status -> {
+            // 동시에 두 번 삭제돼도 카운터는 실제로 지워진 경우에만 감소
+            if (commentRepository.deleteById(commentId) > 0) {
+                boardRepository.addCommentCount(comment.getBoardId(), -1);
+                if (noticeSnapshot.contains(comment.getBoardId())) {
+                    invalidationBus.publish(InvalidationEvent.NOTICE, comment.getBoardId());
+                }
+            }
+        });
+    }
+
+    private BoardDto readableBoard(int boardId, String role, String userid) {
+        BoardDto board = boardRepository.findById(boardId);
+        if (board == null) {
+            throw new IllegalArgumentException("게시물이 없습니다.");
+        }
+        if (!boardService.canRead(board, role, userid)) {
+            throw new SecurityException("권한이 없습니다.");
+        }
+        return board;
+    }
+
+    private CommentDto modifiableComment(int commentId, String role, String userid) {
+        CommentDto comment = commentRepository.findById(commentId);
+        if (comment == null) {
+            throw new IllegalArgumentException("댓글이 존재하지 않습니다.");
+        }
+        if (!"ADMIN".equalsIgnoreCase(role) && !comment.getUserid().equals(userid)) {
+            throw new SecurityException("권한이 없습니다.");
+        }
+        return comment;
+    }
+
+    private static void validateContent(String content) {
+        if (content == null || content.isBlank() || content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("댓글은 1자 이상 " + MAX_CONTENT_LENGTH + "자 이하로 입력해주세요.");
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul")).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.barobaedal.barobaedal.boards.service;
+
+import com.barobaedal.barobaedal.boards.dto.BoardDto;
+import com.barobaedal.barobaedal.boards.dto.BoardPageResponse;
+import com.barobaedal.barobaedal.boards.dto.BoardSummaryDto;
+import com.barobaedal.barobaedal.boards.repository.BoardRepository;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 공지사항 전체를 불변 스냅샷으로 들고 있다가 통째로 교체한다.
+// 읽기는 AtomicReference 조회 한 번 (잠금/DB 없음), 교체는 관리자가 공지를 등록/수정/삭제할 때만 일어난다.
+// 공지 변경은 InvalidationBus 로 받아 다시 읽고 (다른 인스턴스의 변경 포함), 주기적 재적재는 발행이 실패했을 때의 대비용.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeSnapshot implements InvalidationListener {
+
+    public static final String CATEGORY = "notice";
+
+    private final BoardRepository boardRepository;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public static boolean isNotice(String category) {
+        return CATEGORY.equalsIgnoreCase(category);
+    }
+
+    // 최신순 전체 목록 (content 포함)
+    public List<BoardDto> all() {
+        return snapshot().boards();
+    }
+
+    public BoardDto find(int id) {
+        return snapshot().byId().get(id);
+    }
+
+    public boolean contains(int id) {
+        return snapshot().byId().containsKey(id);
+    }
+
+    // 목록 한 페이지 (content 제외, id 역순 keyset). 공지는 많아야 수백 건이라 선형 탐색
+    public BoardPageResponse page(Integer cursor, int size) {
+        List<BoardSummaryDto> summaries = snapshot().summaries();
+        int from = 0;
+        if (cursor != null) {
+            while (from < summaries.size() && summaries.get(from).getId() >= cursor) {
+                from++;
+            }
+        }
+        int to = Math.min(from + size, summaries.size());
+        List<BoardSummaryDto> items = summaries.subList(from, to);
+        Integer nextCursor = to < summaries.size() && !items.isEmpty() ? items.get(items.size() - 1).getId() : null;
+        return new BoardPageResponse(items, nextCursor);
+    }
+
+    // 공지 등록/수정/삭제(댓글 수 변경 포함) 이벤트. 아직 한 번도 읽지 않았으면 첫 요청에서 읽으므로 건너뜀
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (InvalidationEvent.NOTICE.equals(event.entity()) && current.get() != null) {
+            refresh();
+        }
+    }
+
+    // 재적재끼리는 직렬화해서 오래된 스냅샷이 새 것을 덮지 않게 함
+    public synchronized void refresh() {
+        List<BoardDto> boards = boardRepository.findByCategory(CATEGORY, null);
+        current.set(Snapshot.of(boards));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notice.refresh-interval-ms:600000}")
+    public void refreshPeriodically() {
+        if (current.get() == null) return;
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // DB 장애 중에도 마지막 스냅샷으로 계속 응답
+            log.warn("[notice] 스냅샷 재적재 실패", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) return snapshot;
+        // 첫 요청에서 한 번만 적재
+        synchronized (this) {
+            snapshot = current.get();
+            if (snapshot == null) {
+                refresh();
+                snapshot = current.get();
+            }
+            return snapshot;
+        }
+    }
+
+    // 스냅샷 안의 목록/맵은 수정할 수 없음. 응답 직렬화 외에 BoardDto 를 바꾸지 말 것
+    private record Snapshot(List<BoardDto> boards, Map<Integer, BoardDto> byId, List<BoardSummaryDto> summaries) {
+
+        static Snapshot of(List<BoardDto> boards) {
+            Map<Integer, BoardDto> byId = new HashMap<>();
+            List<BoardSummaryDto> summaries = new ArrayList<>(boards.size());
+            for (BoardDto board : boards) {
+                byId.put(board.getId(), board);
+                summaries.add(new BoardSummaryDto(board.getId(), board.getCategory(), board.getMemberId(),
+                        board.getUserid(), board.getTitle(), board.getCreatedAt(), board.getCommentCount()));
+            }
+            return new Snapshot(Collections.unmodifiableList(new ArrayList<>(boards)),
+                    Collections.unmodifiableMap(byId),
+                    Collections.unmodifiableList(summaries));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.barobaedal.barobaedal.common;
 
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpFilter;
@@ -9,9 +10,14 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
+// /api/** 요청의 토큰을 여기서 한 번만 검증하고 결과(AuthPrincipal)를 요청 속성에 넣어 둔다.
+// 이후 필터(요청 제한, 멱등성, 응답 캐시)와 컨트롤러(@LoginUser)는 다시 파싱하지 않고 이 값을 쓴다.
+// 토큰이 없거나 유효하지 않아도 여기서 막지 않고, 로그인이 필요한 API 인지는 AuthInterceptor(@PublicApi)가 판단한다.
 @Component
 public class JwtAuthFilter extends HttpFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtUtil jwtUtil;
 
     public JwtAuthFilter(JwtUtil jwtUtil) {
@@ -30,20 +36,14 @@ public class JwtAuthFilter extends HttpFilter {
         }
 
         String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String userid = jwtUtil.getUseridFromToken(token);
-                request.setAttribute("userid", userid);
-            } else {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                return; // 토큰이 유효하지 않으면 요청 차단
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            AuthPrincipal principal = jwtUtil.authenticate(authHeader.substring(BEARER_PREFIX.length()));
+            if (principal != null) {
+                request.setAttribute(AuthPrincipal.ATTRIBUTE, principal);
+                request.setAttribute("userid", principal.userid()); // RateLimitFilter 가 사용자 단위로 셀 때 사용
             }
-        } else {
-            // 토큰 미제공인 경우 필요하면 인증 필요 API 차단
-            // 여기서는 그냥 넘김 (공개 API 허용 시)
         }
 
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
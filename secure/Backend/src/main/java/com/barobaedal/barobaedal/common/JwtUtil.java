@@ -1,54 +1,70 @@
 package com.barobaedal.barobaedal.common;
 
-import com.barobaedal.barobaedal.common.exception.BaseException;
-import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
+import com.barobaedal.barobaedal.common.auth.JwtKeyProperties;
+import com.barobaedal.barobaedal.common.auth.JwtKeyStore;
+import com.barobaedal.barobaedal.common.revocation.TokenRevocationStore;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    private final long expireMillis = 1000 * 60 * 60; // 1시간 토큰 유효기간
+    private final JwtKeyStore keyStore;
+    private final long expireMillis; // 토큰 유효기간 (app.jwt.token-ttl, 기본 1시간)
+    private final JwtParser parser;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    public JwtUtil(JwtKeyStore keyStore, JwtKeyProperties properties, TokenRevocationStore tokenRevocationStore) {
+        this.keyStore = keyStore;
+        this.expireMillis = properties.getTokenTtl().toMillis();
+        this.tokenRevocationStore = tokenRevocationStore;
+        // 헤더의 kid 로 검증 키를 고름 (교체 전 키로 서명된 토큰, 다른 인스턴스가 발급한 토큰도 검증)
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyStore.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("unknown kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
 
     public String generateToken(String userid) {
+        JwtKeyStore.SigningKey signingKey = keyStore.signingKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(UUID.randomUUID().toString()) // jti : 로그아웃 시 이 값으로 토큰을 무효화
                 .setSubject(userid)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expireMillis))
-                .signWith(key)
+                .signWith(signingKey.key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getUseridFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    // 서명/만료 확인 후 로그아웃한 토큰인지 확인 (대부분 블룸 필터에서 끝남). 유효하지 않으면 null
+    // 요청마다 JwtAuthFilter 에서 한 번만 호출됨
+    public AuthPrincipal authenticate(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (tokenRevocationStore.isRevoked(claims.getId())) {
+                return null;
+            }
+            return new AuthPrincipal(claims.getSubject(), claims.getId(), claims.getExpiration().getTime());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
-    public String auth(String authHeader) {
-        if (authHeader == null || authHeader.isEmpty())
-            throw new BaseException(MessageCode.COMMON_INVALID_TOKEN.getMessage());
-        String token = authHeader.substring(7);
-        if (!this.validateToken(token))
-            throw new BaseException(MessageCode.COMMON_INVALID_TOKEN.getMessage());
-        return this.getUseridFromToken(token);
+    // 로그아웃: 토큰 만료 시각까지 무효 목록에 보관
+    public void revoke(AuthPrincipal principal) {
+        tokenRevocationStore.revoke(principal.tokenId(), principal.expiresAt());
     }
 }
@@ -0,0 +1,30 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @PublicApi 가 없는 핸들러는 JwtAuthFilter 가 넣어 둔 인증 정보가 있어야 호출됨
+// 실패는 예전 컨트롤러의 토큰 확인과 같은 BaseException 으로 던져 CommonControllerAdvice 가 같은 형식으로 응답
+@Component
+public class AuthInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        if (handlerMethod.hasMethodAnnotation(PublicApi.class)
+                || handlerMethod.getBeanType().isAnnotationPresent(PublicApi.class)) {
+            return true;
+        }
+        if (AuthPrincipal.from(request) == null) {
+            throw new BaseException(MessageCode.COMMON_INVALID_TOKEN.getMessage());
+        }
+        return true;
+    }
+}
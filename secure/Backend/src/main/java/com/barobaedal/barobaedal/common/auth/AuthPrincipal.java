@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// JwtAuthFilter 가 토큰을 한 번 검증하고 요청 속성에 넣어 두는 인증 정보
+public record AuthPrincipal(String userid, String tokenId, long expiresAt) {
+
+    public static final String ATTRIBUTE = AuthPrincipal.class.getName();
+
+    // 토큰이 없거나 유효하지 않으면 null
+    public static AuthPrincipal from(HttpServletRequest request) {
+        return (AuthPrincipal) request.getAttribute(ATTRIBUTE);
+    }
+}
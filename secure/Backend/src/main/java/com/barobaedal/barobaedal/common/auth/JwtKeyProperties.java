@@ -0,0 +1,32 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtKeyProperties {
+
+    // 모든 인스턴스가 같이 보는 서명 키 파일 (공유 볼륨 등). 없으면 첫 인스턴스가 만든다
+    private String keystorePath = "config/jwt-keys.json";
+
+    // 발급 토큰 유효기간. 교체된 키는 마지막으로 서명한 토큰이 만료될 때까지 검증용으로 남는다
+    private Duration tokenTtl = Duration.ofHours(1);
+
+    // 서명 키 교체 주기
+    private Duration rotationInterval = Duration.ofDays(7);
+
+    // 새 키는 파일에 쓰고 이 시간이 지난 뒤부터 서명에 사용 (그 사이 모든 인스턴스가 다시 읽어 검증할 수 있게)
+    // reloadIntervalMs 보다 충분히 길어야 함
+    private long publishDelayMs = 90_000;
+
+    // 키 파일이 바뀌었는지 확인하고, 교체 시점이면 새 키를 만드는 주기
+    private long reloadIntervalMs = 30_000;
+
+    // 인스턴스 간 시계 차이 여유 (교체된 키를 지우는 시점에 더함)
+    private Duration clockSkew = Duration.ofMinutes(1);
+}
@@ -0,0 +1,229 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 여러 인스턴스가 같은 JWT 서명 키를 쓰도록 키를 공유 파일(app.jwt.keystore-path)에서 읽는다.
+// 토큰 헤더의 kid 로 검증 키를 고르므로, 교체 전 키로 서명된 토큰도 만료될 때까지 모든 인스턴스에서 통과한다.
+// 교체 시점이 되면 파일 잠금을 잡은 인스턴스 하나가 새 키를 추가하고, 새 키는 publishDelayMs 뒤부터 서명에 쓰인다.
+// 읽은 키는 kid -> SecretKey 로 한 번만 만들어 두고, 파일이 바뀌었을 때만 다시 만든다.
+@Slf4j
+@Component
+public class JwtKeyStore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final JwtKeyProperties properties;
+    private final Path path;
+    private final Path lockPath;
+    private final SecureRandom random = new SecureRandom();
+    private final Counter rotations;
+    private final Counter unknownKid;
+
+    private volatile Keyset keyset = Keyset.EMPTY;
+    private volatile FileTime loadedModified;
+
+    public JwtKeyStore(JwtKeyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.path = Paths.get(properties.getKeystorePath()).toAbsolutePath();
+        this.lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        this.rotations = Counter.builder("jwt.keys.rotations").register(meterRegistry);
+        this.unknownKid = Counter.builder("jwt.keys.unknown-kid").register(meterRegistry);
+        Gauge.builder("jwt.keys.verification", this, s -> s.keyset.keys().size()).register(meterRegistry);
+    }
+
+    // 키가 하나도 없으면 서명할 수 없으므로 시작 시 실패는 그대로 던짐
+    @PostConstruct
+    public void load() {
+        reloadIfChanged();
+        rotateIfDue();
+    }
+
+    public SigningKey signingKey() {
+        SigningKey signing = keyset.signing(System.currentTimeMillis());
+        if (signing == null) {
+            throw new IllegalStateException("JWT 서명 키가 없습니다: " + path);
+        }
+        return signing;
+    }
+
+    // 모르는 kid 면 null (교체 후 지워진 키, 다른 키 파일을 쓰는 인스턴스가 발급한 토큰)
+    public SecretKey verificationKey(String kid) {
+        SecretKey key = kid == null ? null : keyset.keys().get(kid);
+        if (key == null) {
+            unknownKid.increment();
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.reload-interval-ms:30000}")
+    public void refresh() {
+        try {
+            reloadIfChanged();
+            rotateIfDue();
+        } catch (RuntimeException e) {
+            // 읽어 둔 키로 계속 동작하고 다음 주기에 다시 시도
+            log.warn("[jwt] 서명 키 파일 갱신 실패: {}", path, e);
+        }
+    }
+
+    private void reloadIfChanged() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(loadedModified)) return;
+            apply(read(), modified);
+        } catch (NoSuchFileException e) {
+            // 아직 아무 인스턴스도 만들지 않음 (rotateIfDue 에서 생성)
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void rotateIfDue() {
+        if (!isDue(keyset.entries, System.currentTimeMillis())) return;
+
+        // 같은 JVM 안의 여러 컨텍스트(테스트)는 FileLock 을 겹쳐 잡을 수 없어 클래스 잠금을 먼저 잡음
+        synchronized (JwtKeyStore.class) {
+            try {
+                Files.createDirectories(path.getParent());
+                try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    // 잠금을 기다리는 동안 다른 인스턴스가 이미 교체했을 수 있으므로 다시 읽고 판단
+                    List<KeyEntry> entries = Files.exists(path) ? read() : List.of();
+                    long now = System.currentTimeMillis();
+                    if (!isDue(entries, now)) {
+                        apply(entries, Files.getLastModifiedTime(path));
+                        return;
+                    }
+                    // 처음 만드는 키는 아직 다른 인스턴스가 없으므로 바로 사용
+                    long activatesAt = entries.isEmpty() ? now : now + properties.getPublishDelayMs();
+                    List<KeyEntry> next = prune(entries, now);
+                    next.add(newKey(now, activatesAt));
+                    write(next);
+                    apply(next, Files.getLastModifiedTime(path));
+                    rotations.increment();
+                    log.info("[jwt] 새 서명 키 추가 (검증 키 {}개)", next.size());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 가장 최근 키가 교체 주기를 넘었으면 교체
+    private boolean isDue(List<KeyEntry> entries, long now) {
+        if (entries.isEmpty()) return true;
+        long newest = entries.stream().mapToLong(KeyEntry::activatesAt).max().getAsLong();
+        return now - newest >= properties.getRotationInterval().toMillis();
+    }
+
+    // 다음 키가 서명을 시작한 뒤 토큰 유효기간이 지난 키는 더 이상 검증할 토큰이 없으므로 삭제
+    private List<KeyEntry> prune(List<KeyEntry> entries, long now) {
+        long retention = properties.getTokenTtl().toMillis() + properties.getClockSkew().toMillis();
+        List<KeyEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong(KeyEntry::activatesAt));
+        List<KeyEntry> kept = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            KeyEntry successor = i + 1 < sorted.size() ? sorted.get(i + 1) : null;
+            if (successor == null || now < successor.activatesAt() + retention) {
+                kept.add(sorted.get(i));
+            }
+        }
+        return kept;
+    }
+
+    private KeyEntry newKey(long now, long activatesAt) {
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String kid = UUID.randomUUID().toString().substring(0, 8) + "-" + now;
+        return new KeyEntry(kid, Base64.getEncoder().encodeToString(secret), now, activatesAt);
+    }
+
+    private List<KeyEntry> read() throws IOException {
+        KeyFile file = MAPPER.readValue(path.toFile(), KeyFile.class);
+        return file.keys() == null ? List.of() : file.keys();
+    }
+
+    // 다른 인스턴스가 쓰다 만 파일을 읽지 않도록 임시 파일에 쓰고 한 번에 교체
+    private void write(List<KeyEntry> entries) throws IOException {
+        Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try {
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                // POSIX 권한이 없는 파일 시스템
+            }
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), new KeyFile(entries));
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void apply(List<KeyEntry> entries, FileTime modified) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        List<SigningKey> byActivation = new ArrayList<>();
+        for (KeyEntry entry : entries) {
+            SecretKey key = new SecretKeySpec(Base64.getDecoder().decode(entry.secret()), ALGORITHM.getJcaName());
+            keys.put(entry.kid(), key);
+            byActivation.add(new SigningKey(entry.kid(), key, entry.activatesAt()));
+        }
+        byActivation.sort(Comparator.comparingLong(SigningKey::activatesAt).reversed());
+        this.keyset = new Keyset(List.copyOf(entries), Map.copyOf(keys), List.copyOf(byActivation));
+        this.loadedModified = modified;
+    }
+
+    public record SigningKey(String kid, SecretKey key, long activatesAt) {
+    }
+
+    // 파일 형식: {"keys":[{"kid":..., "secret":base64, "createdAt":ms, "activatesAt":ms}, ...]}
+    record KeyEntry(String kid, String secret, long createdAt, long activatesAt) {
+    }
+
+    record KeyFile(List<KeyEntry> keys) {
+    }
+
+    private record Keyset(List<KeyEntry> entries, Map<String, SecretKey> keys, List<SigningKey> byActivation) {
+
+        static final Keyset EMPTY = new Keyset(List.of(), Map.of(), List.of());
+
+        // 사용 가능해진 키 중 가장 최근 키
+        SigningKey signing(long now) {
+            for (SigningKey key : byActivation) {
+                if (key.activatesAt() <= now) return key;
+            }
+            return null;
+        }
+    }
+}
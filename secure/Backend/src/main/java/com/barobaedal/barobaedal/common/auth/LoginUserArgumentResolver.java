@@ -0,0 +1,33 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @LoginUser AuthPrincipal principal / @LoginUser String userid
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && (parameter.getParameterType() == AuthPrincipal.class || parameter.getParameterType() == String.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        AuthPrincipal principal = AuthPrincipal.from(webRequest.getNativeRequest(HttpServletRequest.class));
+        if (principal == null) {
+            // @PublicApi 핸들러에서 @LoginUser 를 쓴 경우
+            throw new BaseException(MessageCode.COMMON_INVALID_TOKEN.getMessage());
+        }
+        return parameter.getParameterType() == String.class ? principal.userid() : principal;
+    }
+}
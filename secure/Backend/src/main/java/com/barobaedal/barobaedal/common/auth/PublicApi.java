@@ -0,0 +1,12 @@
+package com.barobaedal.barobaedal.common.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 토큰 없이 호출할 수 있는 API (회원가입, 로그인). 붙어 있지 않은 /api/** 는 모두 로그인 필요
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PublicApi {
+}
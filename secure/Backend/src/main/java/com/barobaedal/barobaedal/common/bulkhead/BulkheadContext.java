@@ -0,0 +1,22 @@
+package com.barobaedal.barobaedal.common.bulkhead;
+
+// 현재 요청 스레드가 속한 벌크헤드 이름 (커넥션 풀 라우팅에 사용)
+public final class BulkheadContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static void set(String name) {
+        CURRENT.set(name);
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
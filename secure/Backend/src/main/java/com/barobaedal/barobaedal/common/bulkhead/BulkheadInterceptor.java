@@ -0,0 +1,50 @@
+package com.barobaedal.barobaedal.common.bulkhead;
+
+import com.barobaedal.barobaedal.common.exception.BulkheadFullException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE = BulkheadInterceptor.class.getName() + ".bulkhead";
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답(StreamingResponseBody 등)이 끝나 다시 디스패치된 경우: 처음 얻은 자리를 그대로 유지
+        if (request.getAttribute(ATTRIBUTE) != null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Bulkhead bulkhead = bulkheadRegistry.resolve(path);
+        if (!bulkhead.tryAcquire()) {
+            // CommonControllerAdvice 에서 503 으로 응답
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        request.setAttribute(ATTRIBUTE, bulkhead);
+        BulkheadContext.set(bulkhead.getName());
+        return true;
+    }
+
+    // 비동기 처리로 넘어가면 요청 스레드만 반환되고, 자리는 비동기 디스패치의 afterCompletion 에서 반환
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        BulkheadContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object bulkhead = request.getAttribute(ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(ATTRIBUTE);
+            ((Bulkhead) bulkhead).release();
+        }
+        BulkheadContext.clear();
+    }
+}
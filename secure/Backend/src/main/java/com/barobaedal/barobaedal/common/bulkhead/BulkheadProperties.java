@@ -0,0 +1,31 @@
+package com.barobaedal.barobaedal.common.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+    // 어떤 패턴에도 해당하지 않는 요청이 사용할 벌크헤드
+    private String defaultGroup = "browse";
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private int maxConcurrent = 20;     // 동시에 처리할 수 있는 요청 수
+        private int maxWaiting = 20;        // 대기열 길이 (초과 시 즉시 거절)
+        private long maxWaitMs = 200;       // 대기열에서 기다릴 수 있는 최대 시간
+        private int poolSize = 10;          // 전용 커넥션 풀 크기
+        private List<String> patterns = new ArrayList<>();
+    }
+}
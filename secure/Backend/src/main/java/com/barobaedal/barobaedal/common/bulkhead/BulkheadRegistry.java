@@ -0,0 +1,55 @@
+package com.barobaedal.barobaedal.common.bulkhead;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class BulkheadRegistry {
+
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+    private final Map<String, String> patterns = new LinkedHashMap<>();
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final String defaultGroup;
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.defaultGroup = properties.getDefaultGroup();
+        properties.getGroups().forEach((name, group) -> {
+            Bulkhead bulkhead = new Bulkhead(name, group.getMaxConcurrent(), group.getMaxWaiting(), group.getMaxWaitMs());
+            bulkheads.put(name, bulkhead);
+            group.getPatterns().forEach(pattern -> patterns.put(pattern, name));
+
+            Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.waiting", bulkhead, Bulkhead::getWaitingCount)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("bulkhead.rejected", bulkhead, Bulkhead::getRejectedCount)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        });
+        if (!bulkheads.containsKey(defaultGroup)) {
+            throw new IllegalStateException("기본 벌크헤드가 설정되어 있지 않습니다: " + defaultGroup);
+        }
+    }
+
+    // 요청 경로에 해당하는 벌크헤드 (먼저 선언된 패턴 우선)
+    public Bulkhead resolve(String path) {
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            if (matcher.match(entry.getKey(), path)) {
+                return bulkheads.get(entry.getValue());
+            }
+        }
+        return bulkheads.get(defaultGroup);
+    }
+
+    public String getDefaultGroup() {
+        return defaultGroup;
+    }
+}
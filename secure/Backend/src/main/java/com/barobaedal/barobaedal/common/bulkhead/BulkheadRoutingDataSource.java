@@ -0,0 +1,31 @@
+package com.barobaedal.barobaedal.common.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 현재 요청의 벌크헤드에 해당하는 전용 커넥션 풀로 라우팅
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public BulkheadRoutingDataSource(Map<String, HikariDataSource> pools, String defaultGroup) {
+        this.pools = pools;
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(defaultGroup));
+        // 벌크헤드 밖의 작업(스케줄러, 기동 시 초기화 등)은 기본 풀을 사용
+        setLenientFallback(true);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
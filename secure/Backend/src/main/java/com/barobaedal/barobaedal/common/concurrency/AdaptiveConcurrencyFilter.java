@@ -0,0 +1,53 @@
+package com.barobaedal.barobaedal.common.concurrency;
+
+import com.barobaedal.barobaedal.common.response.ErrorResponse;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 적응형 동시 처리 한도를 넘는 요청은 컨트롤러까지 가지 않고 503 + Retry-After 로 바로 돌려보낸다.
+// 처리 시간은 필터 체인 전체(컨트롤러 + DB)로 측정해 한도 조정에 사용한다.
+@Component
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyFilter extends HttpFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!limiter.tryAcquire(limiter.resolve(path))) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(),
+                    ErrorResponse.response(MessageCode.COMMON_TOO_MANY_REQUESTS.getMessage()));
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.barobaedal.barobaedal.common.concurrency;
+
+import com.barobaedal.barobaedal.common.jdbc.JdbcEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 서블릿 처리 시간과 Hikari 커넥션 대기 시간을 보고 동시 처리 한도를 AIMD 방식으로 조정한다.
+// 구간(windowMs)마다 느린 요청 비율이나 커넥션 대기가 기준을 넘으면 한도를 곱으로 줄이고,
+// 한도를 절반 이상 쓰면서 빠르게 처리되고 있으면 한 칸씩 늘린다.
+// 우선순위가 낮은 요청은 한도의 일부(share)만 쓸 수 있어, 한도가 줄어들면 조회/통계부터 거절된다.
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter implements JdbcEventListener {
+
+    public enum Priority {
+        CRITICAL, NORMAL, LOW
+    }
+
+    private final AdaptiveLimitProperties properties;
+    private final TierState[] tiers = new TierState[Priority.values().length];
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // 자리가 날 때까지 기다리는 요청 (우선순위별 Condition, 높은 우선순위부터 깨움)
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final AtomicInteger waitingTotal = new AtomicInteger();
+
+    // 현재 구간의 표본
+    private final long windowNanos;
+    private final AtomicLong windowEnd;
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder slowSamples = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder poolWaits = new LongAdder();
+    private final LongAdder poolWaitSum = new LongAdder();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    // 부하가 없을 때의 평균 지연 추정치 (내려갈 때는 빠르게, 올라갈 때는 천천히 따라감)
+    private volatile double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(AdaptiveLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = clamp(properties.getInitialLimit());
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs());
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+
+        tiers[Priority.CRITICAL.ordinal()] = new TierState(Priority.CRITICAL, properties.getCritical(), meterRegistry);
+        tiers[Priority.NORMAL.ordinal()] = new TierState(Priority.NORMAL, properties.getNormal(), meterRegistry);
+        tiers[Priority.LOW.ordinal()] = new TierState(Priority.LOW, properties.getLow(), meterRegistry);
+
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("concurrency.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("concurrency.waiting", waitingTotal, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public Priority resolve(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (TierState tier : tiers) {
+            for (PathPattern pattern : tier.patterns) {
+                if (pattern.matches(container)) return tier.priority;
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    // 자리를 얻으면 true. 자리가 없으면 우선순위별 maxWaitMs 만큼만 기다린다 (0 이면 바로 거절)
+    public boolean tryAcquire(Priority priority) {
+        TierState tier = tiers[priority.ordinal()];
+        if (tryIncrement(tier)) return true;
+        if (tier.maxWaitNanos <= 0) {
+            tier.rejected.increment();
+            return false;
+        }
+
+        waitLock.lock();
+        tier.waiting++;
+        waitingTotal.incrementAndGet();
+        try {
+            long remaining = tier.maxWaitNanos;
+            while (true) {
+                if (tryIncrement(tier)) return true;
+                if (remaining <= 0) {
+                    tier.rejected.increment();
+                    return false;
+                }
+                remaining = tier.condition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tier.rejected.increment();
+            return false;
+        } finally {
+            tier.waiting--;
+            waitingTotal.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    public void release(long elapsedNanos) {
+        inFlight.decrementAndGet();
+        if (waitingTotal.get() > 0) {
+            signalNext();
+        }
+
+        samples.increment();
+        latencySum.add(elapsedNanos);
+        double baseline = baselineNanos;
+        if (baseline > 0 && elapsedNanos > threshold(baseline)) {
+            slowSamples.increment();
+        }
+        maybeAdjust(System.nanoTime());
+    }
+
+    @Override
+    public void onConnectionAcquired(long acquireNanos) {
+        poolWaits.increment();
+        poolWaitSum.add(acquireNanos);
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryIncrement(TierState tier) {
+        int allowed = Math.max(1, (int) (limit * tier.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) return false;
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    // 반환된 자리를 쓸 수 있는 가장 높은 우선순위의 대기자 하나를 깨움
+    private void signalNext() {
+        waitLock.lock();
+        try {
+            int current = inFlight.get();
+            for (TierState tier : tiers) {
+                if (tier.waiting > 0 && current < Math.max(1, (int) (limit * tier.share))) {
+                    tier.condition.signal();
+                    return;
+                }
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    // 구간이 끝났으면 CAS 에 성공한 스레드 하나만 표본을 모아 한도를 조정
+    private void maybeAdjust(long now) {
+        long end = windowEnd.get();
+        if (now < end || !windowEnd.compareAndSet(end, now + windowNanos)) return;
+
+        long count = samples.sumThenReset();
+        long slow = slowSamples.sumThenReset();
+        long latencyTotal = latencySum.sumThenReset();
+        long waits = poolWaits.sumThenReset();
+        long waitTotal = poolWaitSum.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (count == 0) return;
+
+        double avgLatency = (double) latencyTotal / count;
+        double avgPoolWaitMs = waits == 0 ? 0 : (double) waitTotal / waits / 1_000_000;
+        boolean overloaded = slow > count * properties.getSlowRatio()
+                || avgPoolWaitMs > properties.getPoolWaitThresholdMs();
+
+        double before = limit;
+        if (overloaded) {
+            limit = clamp(before * properties.getBackoffRatio());
+        } else if (peak * 2 >= before) {
+            limit = clamp(before + properties.getIncreaseStep());
+            // 늘어난 자리만큼 기다리던 요청을 깨움
+            if (waitingTotal.get() > 0) {
+                signalNext();
+            }
+        }
+
+        if (!overloaded) {
+            updateBaseline(avgLatency);
+        }
+        if (overloaded && (int) limit != (int) before) {
+            log.debug("[concurrency] limit {} -> {} (slow {}/{}, pool wait {}ms)",
+                    (int) before, (int) limit, slow, count, String.format("%.1f", avgPoolWaitMs));
+        }
+    }
+
+    private void updateBaseline(double avgLatency) {
+        double baseline = baselineNanos;
+        if (baseline == 0) {
+            baselineNanos = avgLatency;
+        } else if (avgLatency < baseline) {
+            baselineNanos = baseline + (avgLatency - baseline) * 0.2;
+        } else {
+            baselineNanos = baseline + (avgLatency - baseline) * 0.02;
+        }
+    }
+
+    private long threshold(double baseline) {
+        return Math.max((long) (baseline * properties.getLatencyTolerance()),
+                TimeUnit.MILLISECONDS.toNanos(properties.getMinLatencyThresholdMs()));
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+
+    private class TierState {
+
+        private final Priority priority;
+        private final List<PathPattern> patterns = new ArrayList<>();
+        private final double share;
+        private final long maxWaitNanos;
+        private final Condition condition = waitLock.newCondition();
+        private final Counter rejected;
+        private int waiting;    // waitLock 안에서만 접근
+
+        TierState(Priority priority, AdaptiveLimitProperties.Tier tier, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            for (String pattern : tier.getPatterns()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+            this.share = tier.getShare();
+            this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(tier.getMaxWaitMs());
+            this.rejected = Counter.builder("concurrency.rejected")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+}
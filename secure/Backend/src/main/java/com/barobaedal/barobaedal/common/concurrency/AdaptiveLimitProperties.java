@@ -0,0 +1,59 @@
+package com.barobaedal.barobaedal.common.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.adaptive-limit")
+public class AdaptiveLimitProperties {
+
+    private boolean enabled = true;
+
+    // 동시 처리 한도 (시작값, 하한, 상한)
+    private int initialLimit = 40;
+    private int minLimit = 8;
+    private int maxLimit = 200;
+
+    // 이 주기마다 한 번씩 한도를 조정 (과부하면 limit * backoffRatio, 아니면 limit + increaseStep)
+    private long windowMs = 100;
+    private double backoffRatio = 0.9;
+    private int increaseStep = 1;
+
+    // 기준 지연(부하가 없을 때의 지연)의 몇 배를 넘으면 느린 요청으로 보는지, 그리고 그 최소값
+    private double latencyTolerance = 2.0;
+    private long minLatencyThresholdMs = 50;
+
+    // 구간 내 느린 요청 비율이 이 값을 넘으면 과부하
+    private double slowRatio = 0.1;
+
+    // 구간 내 평균 커넥션 대기 시간이 이 값을 넘으면 과부하 (DB 가 밀리는 신호)
+    private long poolWaitThresholdMs = 20;
+
+    // 우선순위별 경로, 사용할 수 있는 한도 비율, 자리가 없을 때 기다리는 시간
+    private Tier critical = new Tier(List.of("/api/order/create", "/api/order/checkout"), 1.0, 300);
+    private Tier normal = new Tier(new ArrayList<>(), 0.8, 50);
+    private Tier low = new Tier(List.of("/api/order/list", "/api/order/sales", "/api/order/day", "/api/store/search"), 0.5, 0);
+
+    @Getter
+    @Setter
+    public static class Tier {
+        private List<String> patterns;
+        private double share;
+        private long maxWaitMs;
+
+        public Tier() {
+            this(new ArrayList<>(), 1.0, 0);
+        }
+
+        public Tier(List<String> patterns, double share, long maxWaitMs) {
+            this.patterns = new ArrayList<>(patterns);
+            this.share = share;
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.barobaedal.barobaedal.common.exception;
 
+import com.barobaedal.barobaedal.common.response.MessageCode;
 import lombok.Getter;
 
 @Getter
 public class BaseException extends RuntimeException {
+
+    // 클라이언트가 메시지 문구 대신 분기에 쓰는 코드 (MessageCode 이름)
+    private String code;
+
     public BaseException() {
     }
 
     public BaseException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    public BaseException(MessageCode messageCode) {
+        super(messageCode.getMessage());
+        this.code = messageCode.name();
+    }
+}
@@ -0,0 +1,15 @@
+package com.barobaedal.barobaedal.common.exception;
+
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import lombok.Getter;
+
+@Getter
+public class BulkheadFullException extends BaseException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead) {
+        super(MessageCode.COMMON_TOO_MANY_REQUESTS.getMessage());
+        this.bulkhead = bulkhead;
+    }
+}
@@ -0,0 +1,10 @@
+package com.barobaedal.barobaedal.common.exception;
+
+import com.barobaedal.barobaedal.common.response.MessageCode;
+
+public class InsufficientPointException extends BaseException {
+
+    public InsufficientPointException() {
+        super(MessageCode.POINT_INSUFFICIENT);
+    }
+}
@@ -0,0 +1,35 @@
+package com.barobaedal.barobaedal.common.export;
+
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+
+// 대용량 내보내기 형식 (?format=csv|ndjson)
+public enum ExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) return CSV;
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) return format;
+        }
+        throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+    }
+}
@@ -0,0 +1,21 @@
+package com.barobaedal.barobaedal.common.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 한 행씩 받아 바로 출력 스트림에 쓰는 내보내기 writer (행을 모아 두지 않으므로 메모리 사용량이 일정)
+public interface ExportWriter extends Closeable {
+
+    void row(Object... values) throws IOException;
+
+    static ExportWriter open(ExportFormat format, OutputStream out, JsonFactory jsonFactory, String... columns)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out, columns);
+            case NDJSON -> new NdjsonExportWriter(out, jsonFactory, columns);
+        };
+    }
+}
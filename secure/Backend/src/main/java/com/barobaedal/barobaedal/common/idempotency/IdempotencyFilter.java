@@ -0,0 +1,163 @@
+package com.barobaedal.barobaedal.common.idempotency;
+
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
+import com.barobaedal.barobaedal.common.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Idempotency-Key 헤더가 있는 주문/포인트 쓰기 요청의 첫 성공 응답을 저장해 두고, 같은 키로 다시 오면 저장된 응답을 돌려준다.
+// 키는 사용자(토큰의 userid, 없으면 IP) 단위로 구분하고, 같은 키에 본문이 다른 요청은 422 로 거절한다.
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends HttpFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (!"POST".equalsIgnoreCase(request.getMethod()) || idempotencyKey == null || idempotencyKey.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = CachedBodyRequest.read(request, properties.getMaxBodyBytes());
+        if (cachedRequest == null) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+        String owner = owner(request);
+        String requestHash = requestHash(request, cachedRequest.getBody());
+
+        while (true) {
+            StoredResponse stored = idempotencyStore.find(owner, idempotencyKey);
+            if (stored != null) {
+                replay(response, stored, requestHash);
+                return;
+            }
+
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = idempotencyStore.claim(owner, idempotencyKey, mine);
+            if (running == null) {
+                execute(cachedRequest, response, chain, owner, idempotencyKey, requestHash, mine);
+                return;
+            }
+
+            // 같은 키의 요청이 처리 중: 결과를 기다렸다가 그대로 돌려준다
+            StoredResponse result;
+            try {
+                result = running.get(properties.getInFlightWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                writeError(response, HttpServletResponse.SC_CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                result = null;
+            }
+            if (result != null) {
+                replay(response, result, requestHash);
+                return;
+            }
+            // 앞선 요청이 저장되지 않는 결과(실패 응답)로 끝났으면 다시 시도
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain chain, String owner,
+                         String idempotencyKey, String requestHash, CompletableFuture<StoredResponse> mine)
+            throws IOException, ServletException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse result = null;
+        try {
+            chain.doFilter(request, wrapper);
+            byte[] body = wrapper.getContentAsByteArray();
+            // 성공 응답만 저장. 예외 처리기가 만든 실패 응답(BaseException 의 200 + ERROR 포함)과 4xx/5xx 는
+            // 저장하지 않아, 원인을 해결한 뒤(예: 포인트 충전) 같은 키로 재시도하면 다시 실행된다
+            if (isSuccess(request, wrapper.getStatus()) && body.length <= properties.getMaxBodyBytes()) {
+                result = new StoredResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(), body,
+                        System.currentTimeMillis() + properties.getTtl().toMillis());
+            }
+        } finally {
+            idempotencyStore.complete(owner, idempotencyKey, mine, result);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // @ExceptionHandler 로 처리된 예외는 DispatcherServlet 이 요청 속성에 남겨 둔다
+    private static boolean isSuccess(HttpServletRequest request, int status) {
+        return status >= 200 && status < 300 && request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) == null;
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored, String requestHash) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            writeError(response, 422, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    // JwtAuthFilter 가 먼저 실행되어 검증해 둔 인증 정보를 사용
+    private static String owner(HttpServletRequest request) {
+        AuthPrincipal principal = AuthPrincipal.from(request);
+        if (principal != null) {
+            return "user:" + principal.userid();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String requestHash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.response(message));
+    }
+}
@@ -0,0 +1,33 @@
+package com.barobaedal.barobaedal.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    // 첫 응답을 보관하는 기간 (클라이언트 재시도 허용 기간)
+    private Duration ttl = Duration.ofHours(24);
+
+    // 메모리 LRU 에 보관할 최대 키 수 (넘치면 DB 에서 조회)
+    private int maxEntries = 10_000;
+
+    // 이보다 큰 응답은 저장하지 않고, 이보다 큰 요청 본문은 읽지 않고 413 으로 거절
+    private int maxBodyBytes = 64 * 1024;
+
+    // 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간
+    private long inFlightWaitMs = 5_000;
+
+    // 만료된 키 정리 주기
+    private long purgeIntervalMs = 600_000;
+
+    // Idempotency-Key 헤더를 적용할 POST 경로 (서블릿 필터 URL 패턴)
+    private List<String> paths = new ArrayList<>();
+}
@@ -0,0 +1,55 @@
+package com.barobaedal.barobaedal.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String FIND_SQL = "SELECT request_hash, status, content_type, body, expires_at FROM idempotency_keys WHERE owner = ? AND idem_key = ? AND expires_at > ?";
+    public static final String DELETE_EXPIRED_KEY_SQL = "DELETE FROM idempotency_keys WHERE owner = ? AND idem_key = ? AND expires_at <= ?";
+    public static final String INSERT_SQL = "INSERT INTO idempotency_keys (owner, idem_key, request_hash, status, content_type, body, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    public static final String DELETE_EXPIRED_SQL = "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StoredResponse find(String owner, String idempotencyKey, long now) {
+        List<StoredResponse> result = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new StoredResponse(
+                rs.getString("request_hash"),
+                rs.getInt("status"),
+                rs.getString("content_type"),
+                rs.getBytes("body"),
+                rs.getLong("expires_at")
+        ), owner, idempotencyKey, now);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    // 다른 인스턴스가 먼저 저장했으면 그대로 두고, 아직 정리되지 않은 만료 키만 덮어쓴다
+    public void save(String owner, String idempotencyKey, StoredResponse response, long now) {
+        try {
+            insert(owner, idempotencyKey, response);
+        } catch (DuplicateKeyException e) {
+            if (jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, owner, idempotencyKey, now) > 0) {
+                try {
+                    insert(owner, idempotencyKey, response);
+                } catch (DuplicateKeyException ignored) {
+                }
+            }
+        }
+    }
+
+    private void insert(String owner, String idempotencyKey, StoredResponse response) {
+        jdbcTemplate.update(INSERT_SQL, owner, idempotencyKey, response.requestHash(), response.status(),
+                response.contentType(), response.body(), response.expiresAt());
+    }
+
+    public int deleteExpired(long now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, now);
+    }
+}
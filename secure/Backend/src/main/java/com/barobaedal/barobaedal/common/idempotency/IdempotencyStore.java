@@ -0,0 +1,87 @@
+package com.barobaedal.barobaedal.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 처음 처리한 응답을 메모리 LRU -> DB(idempotency_keys) 순으로 찾는다.
+// 처리 중인 키는 inFlight 에 등록해 같은 키의 동시 요청이 한 번만 실행되도록 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final IdempotencyProperties properties;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, StoredResponse> recent = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+            return size() > properties.getMaxEntries();
+        }
+    };
+
+    StoredResponse find(String owner, String idempotencyKey) {
+        String cacheKey = cacheKey(owner, idempotencyKey);
+        long now = System.currentTimeMillis();
+        synchronized (recent) {
+            StoredResponse cached = recent.get(cacheKey);
+            if (cached != null && !cached.isExpired(now)) return cached;
+            if (cached != null) recent.remove(cacheKey);
+        }
+        StoredResponse stored = idempotencyRepository.find(owner, idempotencyKey, now);
+        if (stored != null) {
+            synchronized (recent) {
+                recent.put(cacheKey, stored);
+            }
+        }
+        return stored;
+    }
+
+    // 이미 다른 요청이 처리 중이면 그 요청의 future, 아니면 null (호출한 쪽이 처리 담당)
+    CompletableFuture<StoredResponse> claim(String owner, String idempotencyKey, CompletableFuture<StoredResponse> mine) {
+        return inFlight.putIfAbsent(cacheKey(owner, idempotencyKey), mine);
+    }
+
+    // 처리 결과 저장 후 기다리던 요청들에게 전달 (저장하지 않는 응답이면 null 전달 -> 대기자가 직접 처리)
+    void complete(String owner, String idempotencyKey, CompletableFuture<StoredResponse> mine, StoredResponse response) {
+        String cacheKey = cacheKey(owner, idempotencyKey);
+        try {
+            if (response != null) {
+                synchronized (recent) {
+                    recent.put(cacheKey, response);
+                }
+                idempotencyRepository.save(owner, idempotencyKey, response, System.currentTimeMillis());
+            }
+        } catch (RuntimeException e) {
+            // 메모리에는 남아 있으므로 이 인스턴스로 오는 재시도는 계속 보호된다
+            log.warn("[idempotency] 응답 저장 실패 key={}", idempotencyKey, e);
+        } finally {
+            inFlight.remove(cacheKey, mine);
+            mine.complete(response);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (recent) {
+            recent.values().removeIf(response -> response.isExpired(now));
+        }
+        int deleted = idempotencyRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("[idempotency] 만료 키 {}건 삭제", deleted);
+        }
+    }
+
+    private static String cacheKey(String owner, String idempotencyKey) {
+        return owner + '\n' + idempotencyKey;
+    }
+}
@@ -0,0 +1,9 @@
+package com.barobaedal.barobaedal.common.idempotency;
+
+// 키별로 저장해 두는 첫 응답. requestHash 로 같은 키에 다른 요청이 들어온 경우를 구분한다.
+record StoredResponse(String requestHash, int status, String contentType, byte[] body, long expiresAt) {
+
+    boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,96 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 상점/메뉴/공지 같은 로컬 캐시를 인스턴스 사이에서 맞추는 무효화 버스.
+// 쓰기 후 publish 하면 자기 인스턴스의 리스너에는 바로 (트랜잭션 안이면 커밋 직후) 전달하고,
+// 전송 계층을 통해 다른 인스턴스에도 전달한다. 자기가 발행한 이벤트는 전송 계층에서 다시 받아도 건너뜀.
+@Slf4j
+@Component
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final List<InvalidationListener> listeners;
+    private final String nodeId;
+
+    private final Counter published;
+    private final Counter publishFailures;
+    private final Counter received;
+    private final Timer lag;
+
+    public InvalidationBus(InvalidationTransport transport, List<InvalidationListener> listeners, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.published = Counter.builder("cache.invalidation.published").register(meterRegistry);
+        this.publishFailures = Counter.builder("cache.invalidation.publish.failed").register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received").register(meterRegistry);
+        // 다른 인스턴스가 발행한 시각부터 이 인스턴스 캐시에 반영될 때까지 (인스턴스 간 시계 차이 포함)
+        this.lag = Timer.builder("cache.invalidation.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        transport.subscribe(this::receive);
+    }
+
+    public void publish(String entity, long entityId) {
+        try {
+            transport.publish(entity, entityId, nodeId);
+            published.increment();
+        } catch (RuntimeException e) {
+            // 쓰기는 이미 끝났으므로 실패시키지 않음. 다른 인스턴스는 캐시의 주기적 재적재 전까지 이전 값을 볼 수 있음
+            publishFailures.increment();
+            log.warn("[invalidation] 발행 실패: {} {}", entity, entityId, e);
+        }
+
+        InvalidationEvent local = new InvalidationEvent(entity, entityId, 0, nodeId, System.currentTimeMillis());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 비우면 다른 요청이 커밋 전 값으로 캐시를 다시 채울 수 있음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(local);
+                }
+            });
+        } else {
+            dispatch(local);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void receive(InvalidationEvent event) {
+        if (nodeId.equals(event.origin())) return;
+        received.increment();
+        lag.record(Math.max(0, System.currentTimeMillis() - event.createdAt()), TimeUnit.MILLISECONDS);
+        dispatch(event);
+    }
+
+    private void dispatch(InvalidationEvent event) {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(event);
+            } catch (RuntimeException e) {
+                log.warn("[invalidation] {} 처리 실패: {}", listener.getClass().getSimpleName(), event, e);
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
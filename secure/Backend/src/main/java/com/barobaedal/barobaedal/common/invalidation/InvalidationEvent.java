@@ -0,0 +1,13 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+// entity 의 entityId 가 바뀌었음을 알리는 이벤트. version 은 전송 계층이 매기는 순번 (JDBC 는 변경 테이블의 id)
+// 발행한 인스턴스 안에서 바로 적용될 때는 아직 순번이 없어 version 이 0
+public record InvalidationEvent(String entity, long entityId, long version, String origin, long createdAt) {
+
+    public static final String STORE = "store";
+    public static final String MENU = "menu";
+    public static final String NOTICE = "notice";
+
+    // 어떤 id 가 바뀌었는지 모를 때 (id 를 돌려주지 않는 등록, 회원 기준 수정)
+    public static final long ALL = 0;
+}
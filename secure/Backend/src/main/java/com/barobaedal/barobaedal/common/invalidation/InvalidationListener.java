@@ -0,0 +1,8 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+// 로컬 캐시를 들고 있는 빈이 구현. 자기 인스턴스의 변경(커밋 직후)과 다른 인스턴스의 변경(폴링 주기마다) 모두 받는다.
+// 같은 이벤트를 두 번 받을 수 있으므로 비우기/다시 읽기처럼 여러 번 해도 같은 결과가 나와야 함
+public interface InvalidationListener {
+
+    void onInvalidation(InvalidationEvent event);
+}
@@ -0,0 +1,31 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.invalidation")
+public class InvalidationProperties {
+
+    // jdbc: 변경 테이블(cache_invalidations)을 커서로 따라가는 기본 전송 방식
+    private String transport = "jdbc";
+
+    // 변경 테이블을 읽는 주기 (다른 인스턴스 캐시가 늦게 비워지는 최대 시간에 가까움)
+    private long pollIntervalMs = 500;
+
+    // 쿼리 한 번에 읽는 최대 행 수 (poll 은 읽은 행이 이보다 적을 때까지 이어 읽음)
+    private int batchSize = 500;
+
+    // 커서 바로 다음 번호가 비어 있을 때 (먼저 번호를 받은 트랜잭션이 아직 커밋 전) 기다리는 시간.
+    // 넘으면 롤백된 번호로 보고 건너뜀
+    private long gapTimeoutMs = 5_000;
+
+    // 이 시간이 지난 변경 행은 삭제 (그보다 오래 멈춰 있던 인스턴스는 재시작 후 최신 위치부터 읽음)
+    private Duration retention = Duration.ofHours(1);
+
+    private long purgeIntervalMs = 600_000;
+}
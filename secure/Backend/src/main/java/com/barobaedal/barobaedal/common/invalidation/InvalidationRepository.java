@@ -0,0 +1,43 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class InvalidationRepository {
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO cache_invalidations (entity, entity_id, origin, created_at) VALUES (?, ?, ?, ?)";
+    public static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations";
+    public static final String FIND_AFTER_SQL = "SELECT id, entity, entity_id, origin, created_at FROM cache_invalidations WHERE id > ? ORDER BY id LIMIT ?";
+    public static final String DELETE_BEFORE_SQL = "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String entity, long entityId, String origin, long createdAt) {
+        jdbcTemplate.update(INSERT_SQL, entity, entityId, origin, createdAt);
+    }
+
+    public long maxId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    // lastId 이후의 변경, id 순
+    public List<InvalidationEvent> findAfter(long lastId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, (rs, rowNum) -> new InvalidationEvent(
+                rs.getString("entity"),
+                rs.getLong("entity_id"),
+                rs.getLong("id"),
+                rs.getString("origin"),
+                rs.getLong("created_at")), lastId, limit);
+    }
+
+    public int deleteBefore(long createdAt) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, createdAt);
+    }
+}
@@ -0,0 +1,13 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import java.util.function.Consumer;
+
+// 인스턴스 간 무효화 이벤트 전달 방식 (기본은 JdbcInvalidationTransport, app.invalidation.transport)
+public interface InvalidationTransport {
+
+    // 진행 중인 트랜잭션이 있으면 같이 커밋/롤백되어야 함
+    void publish(String entity, long entityId, String origin);
+
+    // 모든 인스턴스(자기 자신 포함)가 발행한 이벤트를 받을 곳. 시작 시 한 번 등록
+    void subscribe(Consumer<InvalidationEvent> consumer);
+}
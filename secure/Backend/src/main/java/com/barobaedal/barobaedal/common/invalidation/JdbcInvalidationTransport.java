@@ -0,0 +1,126 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 변경 테이블(cache_invalidations)에 한 행씩 쓰고, 모든 인스턴스가 id 커서로 새 행을 읽어 간다 (추가 인프라 없음).
+// AUTO_INCREMENT 번호는 커밋 순서와 다를 수 있어서, 커서 바로 다음 번호가 비어 있으면 그 자리에서 커서를 멈추고
+// 뒤의 행만 먼저 전달한다 (전달한 번호는 기억해 두고 다시 전달하지 않음). gapTimeoutMs 가 지나도 안 채워지면 건너뜀.
+// 한 번의 poll 에서는 커서가 아니라 마지막으로 읽은 번호부터 batchSize 씩 이어 읽어서, 커서가 빈 번호에 멈춰 있어도
+// 그 뒤의 변경이 batchSize 를 넘으면 다음 poll 까지 밀리지 않게 한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.invalidation", name = "transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private final InvalidationProperties properties;
+    private final InvalidationRepository invalidationRepository;
+
+    private volatile Consumer<InvalidationEvent> consumer = event -> {
+    };
+
+    // poll 안에서만 접근 (synchronized)
+    private long cursor = -1;
+    private long gapAt;         // 기다리고 있는 빈 번호
+    private long gapSince;
+    private final Set<Long> deliveredAhead = new HashSet<>();
+
+    public JdbcInvalidationTransport(InvalidationProperties properties, InvalidationRepository invalidationRepository) {
+        this.properties = properties;
+        this.invalidationRepository = invalidationRepository;
+    }
+
+    // 시작 전의 변경은 이미 DB 에 반영된 상태로 캐시를 채우므로 최신 위치부터 읽음
+    @PostConstruct
+    public void start() {
+        try {
+            initCursor();
+        } catch (RuntimeException e) {
+            // 첫 poll 에서 다시 시도
+            log.warn("[invalidation] 변경 테이블 위치 조회 실패", e);
+        }
+    }
+
+    @Override
+    public void publish(String entity, long entityId, String origin) {
+        invalidationRepository.insert(entity, entityId, origin, System.currentTimeMillis());
+    }
+
+    @Override
+    public void subscribe(Consumer<InvalidationEvent> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (cursor < 0) {
+            initCursor();
+            return;
+        }
+        int batchSize = properties.getBatchSize();
+        long now = System.currentTimeMillis();
+        long next = cursor;
+        long readFrom = cursor;
+        boolean contiguous = true;
+        List<InvalidationEvent> events;
+        do {
+            events = invalidationRepository.findAfter(readFrom, batchSize);
+            for (InvalidationEvent event : events) {
+                if (contiguous) {
+                    if (event.version() == next + 1) {
+                        next = event.version();
+                    } else {
+                        long missing = next + 1;
+                        if (gapAt != missing) {
+                            gapAt = missing;
+                            gapSince = now;
+                        }
+                        if (now - gapSince >= properties.getGapTimeoutMs()) {
+                            log.debug("[invalidation] {} ~ {} 번 건너뜀 (커밋되지 않음)", missing, event.version() - 1);
+                            next = event.version();
+                        } else {
+                            contiguous = false;
+                        }
+                    }
+                }
+                if (deliveredAhead.add(event.version())) {
+                    deliver(event);
+                }
+                readFrom = event.version();
+            }
+        } while (events.size() == batchSize);
+        cursor = next;
+        long advanced = next;
+        deliveredAhead.removeIf(version -> version <= advanced);
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.purge-interval-ms:600000}")
+    public void purge() {
+        int deleted = invalidationRepository.deleteBefore(System.currentTimeMillis() - properties.getRetention().toMillis());
+        if (deleted > 0) {
+            log.info("[invalidation] 오래된 변경 {}건 삭제", deleted);
+        }
+    }
+
+    private synchronized void initCursor() {
+        if (cursor < 0) {
+            cursor = invalidationRepository.maxId();
+        }
+    }
+
+    private void deliver(InvalidationEvent event) {
+        try {
+            consumer.accept(event);
+        } catch (RuntimeException e) {
+            log.warn("[invalidation] 이벤트 처리 실패: {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 커넥션/스테이트먼트/결과셋을 프록시로 감싸 쿼리별 실행 시간, 행 수, 커넥션 획득/점유 시간을 측정
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final List<JdbcEventListener> listeners;
+
+    public InstrumentedDataSource(DataSource target, List<JdbcEventListener> listeners) {
+        super(target);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return wrapConnection(super.getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return wrapConnection(super.getConnection(username, password), start);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrapConnection(Connection connection, long start) {
+        long acquiredAt = System.nanoTime();
+        fire(listener -> listener.onConnectionAcquired(acquiredAt - start));
+        return (Connection) Proxy.newProxyInstance(
+                InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, acquiredAt));
+    }
+
+    // 리스너 오류가 실제 쿼리 실행을 방해하지 않도록 격리
+    private void fire(Consumer<JdbcEventListener> event) {
+        for (JdbcEventListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object handleObjectMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private boolean closed;
+
+        ConnectionHandler(Connection target, long acquiredAt) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object objectResult = handleObjectMethod(proxy, method, args);
+            if (objectResult != null) return objectResult;
+
+            if ("close".equals(name) && !closed) {
+                closed = true;
+                long holdNanos = System.nanoTime() - acquiredAt;
+                fire(listener -> listener.onConnectionReleased(holdNanos));
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                switch (name) {
+                    case "prepareStatement":
+                        return wrapStatement(statement, (String) args[0], PreparedStatement.class, proxy);
+                    case "prepareCall":
+                        return wrapStatement(statement, (String) args[0], CallableStatement.class, proxy);
+                    case "createStatement":
+                        return wrapStatement(statement, null, Statement.class, proxy);
+                    default:
+                        return result;
+                }
+            }
+            return result;
+        }
+    }
+
+    private Object wrapStatement(Statement statement, String sql, Class<?> type, Object connectionProxy) {
+        return Proxy.newProxyInstance(
+                InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, sql, connectionProxy));
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Object connectionProxy;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private String sql;
+
+        // 결과셋을 다 읽을 때까지 기록을 미뤄 두는 실행 정보
+        private boolean pending;
+        private String pendingSql;
+        private String pendingShape;
+        private long pendingElapsed;
+        private long pendingRows;
+        private boolean pendingFailed;
+
+        StatementHandler(Statement target, String sql, Object connectionProxy) {
+            this.target = target;
+            this.sql = sql;
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object objectResult = handleObjectMethod(proxy, method, args);
+            if (objectResult != null) return objectResult;
+
+            if ("getConnection".equals(name)) {
+                return connectionProxy;
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordParameter(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameterTypes.clear();
+            } else if ("close".equals(name)) {
+                flush();
+            } else if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            } else if ("getResultSet".equals(name)) {
+                Object result = invokeTarget(target, method, args);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, proxy) : result;
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            flush();
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                sql = statementSql;
+            }
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(target, method, args);
+            } catch (Throwable t) {
+                begin(System.nanoTime() - start, true);
+                flush();
+                throw t;
+            }
+            begin(System.nanoTime() - start, false);
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet, proxy);
+            }
+            pendingRows = affectedRows(result);
+            return result;
+        }
+
+        private void begin(long elapsed, boolean failed) {
+            pending = true;
+            pendingSql = sql;
+            pendingShape = parameterTypes.isEmpty() ? "()" : "(" + String.join(", ", parameterTypes) + ")";
+            pendingElapsed = elapsed;
+            pendingRows = 0;
+            pendingFailed = failed;
+        }
+
+        void countRow() {
+            pendingRows++;
+        }
+
+        void flush() {
+            if (!pending) return;
+            pending = false;
+            StatementExecution execution = new StatementExecution(
+                    SqlNormalizer.normalize(pendingSql), pendingElapsed, pendingRows, pendingShape, pendingFailed);
+            fire(listener -> listener.onStatement(execution));
+        }
+
+        private void recordParameter(int index, Object value) {
+            while (parameterTypes.size() < index) {
+                parameterTypes.add("?");
+            }
+            parameterTypes.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Number number) return Math.max(0, number.longValue());
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) rows += Math.max(0, count);
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) rows += Math.max(0, count);
+            }
+            return rows;
+        }
+
+        private Object wrapResultSet(ResultSet resultSet, Object statementProxy) {
+            return Proxy.newProxyInstance(
+                    InstrumentedDataSource.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, this, statementProxy));
+        }
+    }
+
+    private static class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementHandler statement;
+        private final Object statementProxy;
+
+        ResultSetHandler(ResultSet target, StatementHandler statement, Object statementProxy) {
+            this.target = target;
+            this.statement = statement;
+            this.statementProxy = statementProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object objectResult = handleObjectMethod(proxy, method, args);
+            if (objectResult != null) return objectResult;
+
+            switch (method.getName()) {
+                case "next": {
+                    Object result = invokeTarget(target, method, args);
+                    if (Boolean.TRUE.equals(result)) statement.countRow();
+                    return result;
+                }
+                case "close":
+                    statement.flush();
+                    return invokeTarget(target, method, args);
+                case "getStatement":
+                    return statementProxy;
+                default:
+                    return invokeTarget(target, method, args);
+            }
+        }
+    }
+}
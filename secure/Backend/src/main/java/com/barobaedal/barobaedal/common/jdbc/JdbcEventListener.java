@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+// InstrumentedDataSource 가 발생시키는 JDBC 이벤트 수신자
+public interface JdbcEventListener {
+
+    default void onConnectionAcquired(long acquireNanos) {
+    }
+
+    default void onConnectionReleased(long holdNanos) {
+    }
+
+    default void onStatement(StatementExecution execution) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청마다 쿼리 수를 세고, 엔드포인트별 예산 초과와 반복 쿼리(N+1)를 기록
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final QueryCounter queryCounter;
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 디스패치는 이미 끝난 결과를 쓰기만 하므로 집계하지 않음
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        queryCounter.start();
+        return true;
+    }
+
+    // 비동기 처리로 넘어가면 요청 스레드에서 실행된 쿼리까지만 집계 (스트리밍 중 쿼리는 다른 스레드에서 실행됨)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request);
+    }
+
+    private void record(HttpServletRequest request) {
+        QueryCounter.Stats stats = queryCounter.stop();
+        if (stats == null) return;
+
+        String endpoint = endpointOf(request);
+        DistributionSummary.builder("http.request.queries")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getQueryCount());
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getQueryCount() > budget) {
+            Counter.builder("http.request.query.budget.exceeded")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[query-budget] {} executed {} queries ({}ms) over budget {}",
+                    endpoint, stats.getQueryCount(), stats.getDbMillis(), budget);
+        }
+
+        stats.getExecutions().forEach((sql, count) -> {
+            if (count >= properties.getRepeatThreshold()) {
+                Counter.builder("http.request.query.repeated")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("[n+1] {} executed the same query {} times: {}", endpoint, count, sql);
+            }
+        });
+    }
+
+    // 경로 변수 대신 매핑 패턴을 사용해 메트릭 태그 수를 제한 예) GET /api/order/{id}
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
@@ -0,0 +1,27 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jdbc.query-budget")
+public class QueryBudgetProperties {
+
+    // 엔드포인트별 설정이 없을 때 허용하는 요청당 쿼리 수
+    private int defaultMaxQueries = 5;
+
+    // 한 요청에서 같은 쿼리가 이 횟수 이상 실행되면 N+1 의심으로 기록
+    private int repeatThreshold = 3;
+
+    // "POST /api/order/create" 형태의 키 -> 허용 쿼리 수
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxQueries);
+    }
+}
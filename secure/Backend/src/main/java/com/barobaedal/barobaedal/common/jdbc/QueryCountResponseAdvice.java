@@ -0,0 +1,41 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 운영(prod) 외 환경에서 응답 헤더로 요청당 쿼리 수와 DB 시간을 노출
+// 본문이 쓰이기 전에 헤더를 붙여야 하므로 인터셉터 대신 ResponseBodyAdvice 사용
+@Profile("!prod")
+@ControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final QueryCounter queryCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCounter.Stats stats = queryCounter.current();
+        if (stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getQueryCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER, String.valueOf(stats.getDbMillis()));
+        }
+        return body;
+    }
+}
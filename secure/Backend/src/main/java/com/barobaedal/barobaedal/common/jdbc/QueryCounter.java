@@ -0,0 +1,53 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 스레드 단위로 실행된 쿼리 수와 DB 시간을 집계
+@Component
+public class QueryCounter implements JdbcEventListener {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    public void start() {
+        CURRENT.set(new Stats());
+    }
+
+    public Stats current() {
+        return CURRENT.get();
+    }
+
+    public Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    @Override
+    public void onStatement(StatementExecution execution) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.add(execution);
+        }
+    }
+
+    @Getter
+    public static class Stats {
+        private int queryCount;
+        private long dbNanos;
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        void add(StatementExecution execution) {
+            queryCount++;
+            dbNanos += execution.getElapsedNanos();
+            executions.merge(execution.getSql(), 1, Integer::sum);
+        }
+
+        public long getDbMillis() {
+            return dbNanos / 1_000_000;
+        }
+    }
+}
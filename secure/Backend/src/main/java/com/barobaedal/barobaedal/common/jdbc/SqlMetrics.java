@@ -0,0 +1,157 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class SqlMetrics implements JdbcEventListener {
+
+    private static final int MAX_STATEMENTS = 500;
+    private static final int MAX_TAG_LENGTH = 200;
+    private static final String OTHER = "(other)";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+    private final Timer acquireTimer;
+    private final Timer holdTimer;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    public SqlMetrics(MeterRegistry meterRegistry,
+                      @Value("${app.jdbc.slow-query-ms:200}") long slowQueryMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMs);
+        this.acquireTimer = Timer.builder("jdbc.connection.acquire")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.holdTimer = Timer.builder("jdbc.connection.hold")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onConnectionAcquired(long acquireNanos) {
+        acquireTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onConnectionReleased(long holdNanos) {
+        holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStatement(StatementExecution execution) {
+        statsFor(execution.getSql()).record(execution);
+
+        if (execution.getElapsedNanos() >= slowQueryNanos) {
+            log.warn("[slow-query] {}ms rows={} params={} sql={}",
+                    TimeUnit.NANOSECONDS.toMillis(execution.getElapsedNanos()),
+                    execution.getRows(),
+                    execution.getParameterShape(),
+                    execution.getSql());
+        }
+    }
+
+    // 총 실행 시간이 큰 순서로 쿼리별 통계
+    public List<StatementSnapshot> snapshot() {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementSnapshot::getTotalMs).reversed())
+                .toList();
+    }
+
+    private StatementStats statsFor(String sql) {
+        StatementStats stats = statements.get(sql);
+        if (stats != null) return stats;
+        // 정규화되지 않는 동적 쿼리가 메트릭 수를 무한히 늘리지 않도록 제한
+        String key = statements.size() < MAX_STATEMENTS ? sql : OTHER;
+        return statements.computeIfAbsent(key, this::register);
+    }
+
+    private StatementStats register(String sql) {
+        String tag = sql.length() > MAX_TAG_LENGTH ? sql.substring(0, MAX_TAG_LENGTH) : sql;
+        Timer timer = Timer.builder("jdbc.statement")
+                .tag("sql", tag)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary rows = DistributionSummary.builder("jdbc.statement.rows")
+                .tag("sql", tag)
+                .register(meterRegistry);
+        return new StatementStats(timer, rows);
+    }
+
+    private static class StatementStats {
+        private final Timer timer;
+        private final DistributionSummary rows;
+        private final LongAdder errors = new LongAdder();
+        private final AtomicLong maxRows = new AtomicLong();
+        private volatile String lastParameterShape;
+
+        StatementStats(Timer timer, DistributionSummary rows) {
+            this.timer = timer;
+            this.rows = rows;
+        }
+
+        void record(StatementExecution execution) {
+            timer.record(execution.getElapsedNanos(), TimeUnit.NANOSECONDS);
+            rows.record(execution.getRows());
+            maxRows.accumulateAndGet(execution.getRows(), Math::max);
+            if (execution.isFailed()) errors.increment();
+            lastParameterShape = execution.getParameterShape();
+        }
+
+        StatementSnapshot snapshot(String sql) {
+            double p50 = 0, p95 = 0, p99 = 0;
+            for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+                double ms = value.value(TimeUnit.MILLISECONDS);
+                if (value.percentile() == 0.5) p50 = ms;
+                else if (value.percentile() == 0.95) p95 = ms;
+                else if (value.percentile() == 0.99) p99 = ms;
+            }
+            return new StatementSnapshot(
+                    sql,
+                    timer.count(),
+                    errors.sum(),
+                    timer.totalTime(TimeUnit.MILLISECONDS),
+                    timer.mean(TimeUnit.MILLISECONDS),
+                    p50, p95, p99,
+                    timer.max(TimeUnit.MILLISECONDS),
+                    rows.totalAmount(),
+                    maxRows.get(),
+                    lastParameterShape);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StatementSnapshot {
+        private String sql;
+        private long count;
+        private long errors;
+        private double totalMs;
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+        private double totalRows;
+        private long maxRows;
+        private String parameterShape;
+    }
+}
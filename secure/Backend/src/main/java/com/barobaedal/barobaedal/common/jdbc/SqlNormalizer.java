@@ -0,0 +1,42 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// 같은 쿼리를 하나의 통계로 묶기 위해 주석/리터럴/공백을 정리
+public final class SqlNormalizer {
+
+    private static final int MAX_CACHED = 2048;
+
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) return "";
+        String cached = CACHE.get(sql);
+        if (cached != null) return cached;
+
+        String normalized = LINE_COMMENT.matcher(sql).replaceAll(" ");
+        normalized = BLOCK_COMMENT.matcher(normalized).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+
+        // 문자열 연결로 만든 쿼리가 캐시를 무한히 키우지 않도록 제한
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, normalized);
+        }
+        return normalized;
+    }
+}
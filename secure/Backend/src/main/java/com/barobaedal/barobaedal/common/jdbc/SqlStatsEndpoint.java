@@ -0,0 +1,22 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// GET /actuator/sqlstats : 쿼리별 실행 통계 (총 실행 시간 내림차순)
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlMetrics sqlMetrics;
+
+    @ReadOperation
+    public List<SqlMetrics.StatementSnapshot> statements() {
+        return sqlMetrics.snapshot();
+    }
+}
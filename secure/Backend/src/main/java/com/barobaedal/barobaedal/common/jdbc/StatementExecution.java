@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.common.jdbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StatementExecution {
+    private String sql;             // 정규화된 SQL (리터럴은 ? 로 치환)
+    private long elapsedNanos;      // 실행 시간
+    private long rows;              // 조회된 행 수 또는 변경된 행 수
+    private String parameterShape;  // 바인딩 파라미터 타입 목록 예) (String, Integer)
+    private boolean failed;
+}
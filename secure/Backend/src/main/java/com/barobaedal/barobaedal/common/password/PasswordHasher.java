@@ -0,0 +1,97 @@
+package com.barobaedal.barobaedal.common.password;
+
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// bcrypt 해시/검증은 요청 스레드가 아니라 크기가 정해진 전용 풀에서 실행한다.
+// 로그인이 몰려도 CPU 를 쓰는 스레드 수는 풀 크기로 묶이고, 대기열이 차면 바로 거절해 Tomcat 스레드가 밀리지 않는다.
+// bcrypt 가 아닌 값(이전의 평문 저장)도 검증하고, 맞으면 새 해시를 돌려줘 다음 로그인부터 bcrypt 로 바뀌게 한다.
+@Component
+public class PasswordHasher {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    // 없는 아이디도 bcrypt 한 번만큼 시간이 걸리게 해서 응답 시간으로 아이디 존재 여부를 알 수 없게 함
+    private final String dummyHash;
+
+    public PasswordHasher(PasswordProperties properties, MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        int poolSize = properties.getPoolSize() > 0 ? properties.getPoolSize() : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = properties.getQueueCapacity() > 0 ? properties.getQueueCapacity() : poolSize * 2;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        this.dummyHash = encoder.encode("dummy-password");
+
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("password.hash.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public CompletableFuture<String> hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    // stored 가 null 이면 (회원 없음) 더미 해시로 같은 시간만큼 검증하고 실패로 돌려줌
+    public CompletableFuture<Verification> verify(String rawPassword, String stored) {
+        return submit(() -> {
+            if (rawPassword == null || stored == null) {
+                encoder.matches("", dummyHash);
+                return Verification.FAILED;
+            }
+            if (!stored.startsWith(BCRYPT_PREFIX)) {
+                boolean matched = MessageDigest.isEqual(
+                        rawPassword.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+                if (!matched) {
+                    encoder.matches("", dummyHash);
+                    return Verification.FAILED;
+                }
+                return new Verification(true, encoder.encode(rawPassword));
+            }
+            if (!encoder.matches(rawPassword, stored)) {
+                return Verification.FAILED;
+            }
+            return new Verification(true, encoder.upgradeEncoding(stored) ? encoder.encode(rawPassword) : null);
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BaseException(MessageCode.COMMON_TOO_MANY_REQUESTS.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // upgradedHash 가 있으면 저장된 값을 이 해시로 바꿔야 함 (평문 또는 낮은 cost)
+    public record Verification(boolean matched, String upgradedHash) {
+        static final Verification FAILED = new Verification(false, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.barobaedal.barobaedal.common.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordProperties {
+
+    // bcrypt cost (2^n 회). 저장된 해시의 cost 가 이보다 낮으면 다음 로그인 때 다시 해시
+    private int bcryptStrength = 10;
+
+    // 해시 전용 스레드 수 (0 이면 CPU 코어 수)
+    private int poolSize = 0;
+
+    // 해시 대기열 길이 (0 이면 스레드 수의 2배). 가득 차면 기다리지 않고 바로 거절.
+    // 격벽(auth 그룹) 자리 수보다 작아야 몰릴 때 요청이 bcrypt 를 기다리며 자리를 붙잡지 않고 거절된다
+    private int queueCapacity = 0;
+}
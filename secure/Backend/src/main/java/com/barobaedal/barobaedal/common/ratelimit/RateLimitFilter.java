@@ -0,0 +1,66 @@
+package com.barobaedal.barobaedal.common.ratelimit;
+
+import com.barobaedal.barobaedal.common.response.ErrorResponse;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 경로별 토큰 버킷으로 요청 수를 제한하고, 초과하면 429 + Retry-After 로 응답한다.
+// 인증 필터가 넣어 둔 userid 가 있으면 사용자 단위, 없으면 클라이언트 IP 단위로 센다.
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends HttpFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long waitNanos = rateLimiter.tryAcquire(path, clientKey(request));
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(),
+                    ErrorResponse.response(MessageCode.COMMON_TOO_MANY_REQUESTS.getMessage()));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Object userid = request.getAttribute("userid");
+        if (userid != null) {
+            return "user:" + userid;
+        }
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return "ip:" + (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,37 @@
+package com.barobaedal.barobaedal.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없던 버킷은 가득 찬 상태와 같으므로 삭제
+    private long idleEvictMs = 300_000;
+
+    private long evictIntervalMs = 60_000;
+
+    // 프록시 뒤에 있을 때만 true (X-Forwarded-For 의 첫 주소를 클라이언트 IP 로 사용)
+    private boolean trustForwardedFor = false;
+
+    // 위에서부터 처음 일치하는 규칙 하나만 적용
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private List<String> patterns = new ArrayList<>();
+        private int capacity = 20;              // 순간적으로 허용하는 요청 수 (버킷 크기)
+        private double refillPerSecond = 10;    // 초당 보충되는 요청 수 (지속 허용량)
+    }
+}
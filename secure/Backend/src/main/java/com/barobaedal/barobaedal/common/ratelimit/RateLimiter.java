@@ -0,0 +1,91 @@
+package com.barobaedal.barobaedal.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 규칙별로 클라이언트 키(userid 또는 IP) -> 토큰 버킷 테이블을 둔다.
+// ConcurrentHashMap 은 조회에 잠금이 없고 갱신도 버킷(bin) 단위로 나뉘어 있어, 허용 경로는 해시 조회 + CAS 한 번이다.
+@Component
+public class RateLimiter {
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final long idleNanos;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictMs());
+        properties.getRules().forEach((name, rule) -> {
+            Rule compiled = new Rule(name, rule, meterRegistry);
+            rules.add(compiled);
+            Gauge.builder("ratelimit.buckets", compiled.buckets, ConcurrentHashMap::size)
+                    .tag("rule", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    // 허용되면 0, 거절되면 재시도까지 남은 나노초
+    public long tryAcquire(String path, String clientKey) {
+        Rule rule = resolve(path);
+        if (rule == null) return 0;
+        long now = System.nanoTime();
+        TokenBucket bucket = rule.buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = rule.buckets.computeIfAbsent(clientKey, k -> new TokenBucket(now));
+        }
+        long wait = bucket.tryAcquire(now, rule.intervalNanos, rule.burstNanos);
+        if (wait > 0) {
+            rule.rejected.increment();
+        }
+        return wait;
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (Rule rule : rules) {
+            rule.buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        }
+    }
+
+    private Rule resolve(String path) {
+        if (rules.isEmpty()) return null;
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            for (PathPattern pattern : rule.patterns) {
+                if (pattern.matches(container)) return rule;
+            }
+        }
+        return null;
+    }
+
+    private static class Rule {
+
+        private final List<PathPattern> patterns = new ArrayList<>();
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        Rule(String name, RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            for (String pattern : rule.getPatterns()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rule.getRefillPerSecond());
+            // TAT 가 현재보다 capacity * interval 까지 앞서는 것을 허용 -> 가득 찬 버킷에서 capacity 개 연속 허용
+            this.burstNanos = intervalNanos * rule.getCapacity();
+            this.rejected = Counter.builder("ratelimit.rejected")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+        }
+    }
+}
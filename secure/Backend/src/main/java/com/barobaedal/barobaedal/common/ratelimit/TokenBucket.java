@@ -0,0 +1,34 @@
+package com.barobaedal.barobaedal.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA 방식 토큰 버킷: "다음 요청이 도착해야 하는 이론상 시각(TAT)" 하나만 CAS 로 갱신한다.
+// 토큰 수와 마지막 보충 시각을 따로 두지 않으므로 잠금 없이 원자적으로 판단할 수 있다.
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+    long tryAcquire(long nowNanos, long intervalNanos, long burstNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 버킷이 다시 가득 찬 뒤로 idleNanos 이상 지났는지
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return theoreticalArrival.get() + idleNanos < nowNanos;
+    }
+}
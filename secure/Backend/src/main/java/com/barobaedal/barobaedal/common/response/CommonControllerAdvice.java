@@ -1,6 +1,7 @@
 package com.barobaedal.barobaedal.common.response;
 
 import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.exception.BulkheadFullException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -24,6 +25,13 @@ public class CommonControllerAdvice {
     @ResponseStatus(HttpStatus.OK)
     @ExceptionHandler(value = BaseException.class)
     public ErrorResponse onBaseException(BaseException e) {
+        return ErrorResponse.response(e.getCode(), e.getMessage());
+    }
+
+    @ResponseBody
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(value = BulkheadFullException.class)
+    public ErrorResponse onBulkheadFullException(BulkheadFullException e) {
         return ErrorResponse.response(e.getMessage());
     }
 
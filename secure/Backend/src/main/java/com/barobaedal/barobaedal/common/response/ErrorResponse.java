@@ -1,5 +1,6 @@
 package com.barobaedal.barobaedal.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +12,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ErrorResponse {
     private ResponseType responseType;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String code;
     private String message;
 
     public static ErrorResponse response(String message) {
@@ -20,4 +23,12 @@ public class ErrorResponse {
                 .build();
     }
 
+    public static ErrorResponse response(String code, String message) {
+        return ErrorResponse.builder()
+                .responseType(ResponseType.ERROR)
+                .code(code)
+                .message(message)
+                .build();
+    }
+
 }
@@ -10,7 +10,13 @@ public enum MessageCode {
     COMMON_INVALID_PARAMETER("요청한 값이 올바르지 않습니다."),
     COMMON_UNAUTHORIZED("토큰이 만료되었습니다."),
     COMMON_FORBIDDEN("권한이 없습니다."),
-    COMMON_INVALID_TOKEN("유효하지 않은 토큰입니다.");
+    COMMON_INVALID_TOKEN("유효하지 않은 토큰입니다."),
+    COMMON_TOO_MANY_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    POINT_INVALID_AMOUNT("포인트 금액이 올바르지 않습니다."),
+    POINT_INSUFFICIENT("포인트가 부족합니다."),
+    ORDER_MENU_NOT_IN_STORE("상점에 있는 메뉴만 주문할 수 있습니다."),
+    ORDER_INVALID_AMOUNT("주문 금액이 올바르지 않습니다."),
+    ORDER_ALREADY_PROCESSED("이미 처리된 결제 요청입니다.");
 
     private final String message;
 
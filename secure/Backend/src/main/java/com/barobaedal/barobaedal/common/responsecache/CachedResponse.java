@@ -0,0 +1,35 @@
+package com.barobaedal.barobaedal.common.responsecache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// 직렬화가 끝난 응답 본문. gzip 이 원본보다 작을 때만 gzip 본을 같이 보관한다.
+record CachedResponse(String contentType, byte[] body, byte[] gzipBody) {
+
+    static CachedResponse of(String contentType, byte[] body, int gzipMinBytes) {
+        byte[] gzipBody = null;
+        if (body.length >= gzipMinBytes) {
+            byte[] compressed = gzip(body);
+            if (compressed.length < body.length) {
+                gzipBody = compressed;
+            }
+        }
+        return new CachedResponse(contentType, body, gzipBody);
+    }
+
+    long size() {
+        return body.length + (gzipBody != null ? gzipBody.length : 0);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
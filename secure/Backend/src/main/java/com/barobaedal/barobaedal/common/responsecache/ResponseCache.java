@@ -0,0 +1,88 @@
+package com.barobaedal.barobaedal.common.responsecache;
+
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// (경로, 쿼리, Accept, 카탈로그 버전) -> 직렬화된 응답 바이트.
+// 상점/메뉴가 바뀌면 버전을 올리고 전부 비운다. 키에 버전이 들어 있어서,
+// 변경 전에 시작된 요청이 늦게 저장한 응답은 새 버전 키로 조회되지 않고 LRU 로 밀려난다.
+// 변경은 InvalidationBus 로 받으므로 다른 인스턴스에서 바뀐 상점/메뉴도 반영된다.
+@Component
+public class ResponseCache implements InvalidationListener {
+
+    private final ResponseCacheProperties properties;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;    // entries 잠금 안에서만 접근
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = Counter.builder("response.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("response.cache.misses").register(meterRegistry);
+        this.evictions = Counter.builder("response.cache.evictions").register(meterRegistry);
+        Gauge.builder("response.cache.bytes", this, ResponseCache::getTotalBytes).register(meterRegistry);
+        Gauge.builder("response.cache.version", catalogVersion, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 요청 처리 전에 만들어 둔 키로 저장해야 처리 도중의 무효화가 반영됨
+    String key(String path, String query, String accept) {
+        return catalogVersion.get() + "|" + path + "?" + (query != null ? query : "") + "|" + (accept != null ? accept : "");
+    }
+
+    CachedResponse get(String key) {
+        CachedResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        (cached != null ? hits : misses).increment();
+        return cached;
+    }
+
+    void put(String key, CachedResponse response) {
+        synchronized (entries) {
+            CachedResponse previous = entries.put(key, response);
+            totalBytes += response.size() - (previous != null ? previous.size() : 0);
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while (totalBytes > properties.getMaxBytes() && eldest.hasNext()) {
+                totalBytes -= eldest.next().size();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    // 응답이 상점/메뉴를 섞어 담고 있어 (상점 정보 + 메뉴 목록) id 와 상관없이 전부 비움
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (InvalidationEvent.STORE.equals(event.entity()) || InvalidationEvent.MENU.equals(event.entity())) {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        catalogVersion.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.barobaedal.barobaedal.common.responsecache;
+
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+// 상점/메뉴 조회처럼 모두에게 같은 응답을 주는 GET 은 Jackson 직렬화 결과(바이트)를 저장해 두고,
+// 다음 요청부터는 컨트롤러/DB/직렬화 없이 그 바이트를 출력 스트림에 그대로 쓴다.
+// JwtAuthFilter 가 검증한 인증 정보가 없으면 캐시를 건너뛰어 기존 오류 응답을 그대로 받게 한다.
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends HttpFilter {
+
+    public static final String CACHE_HEADER = "X-Response-Cache";
+    // 캐시 키에 Accept 가 들어가고 HIT 는 Accept-Encoding 에 따라 gzip 본문을 고르므로, 공유 캐시도 두 헤더로 구분하게 한다.
+    // CORS 처리가 붙이는 Vary 값을 덮어쓰지 않도록 add 로 추가
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!"GET".equalsIgnoreCase(request.getMethod()) || AuthPrincipal.from(request) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = responseCache.key(path, request.getQueryString(), request.getHeader(HttpHeaders.ACCEPT));
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            byte[] body = wrapper.getContentAsByteArray();
+            // 예외 처리(CommonControllerAdvice)로 만들어진 응답도 200 이라 예외 속성으로 구분
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                    && request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) == null
+                    && body.length > 0 && body.length <= properties.getMaxEntryBytes()) {
+                responseCache.put(key, CachedResponse.of(wrapper.getContentType(), body, properties.getGzipMinBytes()));
+            }
+        } finally {
+            wrapper.setHeader(CACHE_HEADER, "MISS");
+            wrapper.addHeader(HttpHeaders.VARY, VARY);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.addHeader(HttpHeaders.VARY, VARY);
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null && acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
@@ -0,0 +1,28 @@
+package com.barobaedal.barobaedal.common.responsecache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시 전체가 쓸 수 있는 최대 바이트 (원본 + gzip 합계, 넘치면 가장 오래 안 쓴 응답부터 제거)
+    private long maxBytes = 32 * 1024 * 1024;
+
+    // 이보다 큰 응답은 저장하지 않음
+    private int maxEntryBytes = 2 * 1024 * 1024;
+
+    // 이 크기 이상이면 gzip 본도 같이 만들어 둠
+    private int gzipMinBytes = 1024;
+
+    // 응답을 캐시할 GET 경로 (서블릿 필터 URL 패턴)
+    private List<String> paths = new ArrayList<>();
+}
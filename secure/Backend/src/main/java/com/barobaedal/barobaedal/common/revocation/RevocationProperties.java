@@ -0,0 +1,29 @@
+package com.barobaedal.barobaedal.common.revocation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.token-revocation")
+public class RevocationProperties {
+
+    // 토큰 유효기간(1시간) 동안 예상되는 최대 로그아웃 수. 블룸 필터 크기를 정함 (넘으면 오탐률이 올라감)
+    private int expectedRevocations = 100_000;
+
+    // 메모리에 두는 정확한 집합의 최대 크기. 넘는 항목은 블룸 필터와 DB 에만 두고, 필터 양성이면 DB 에서 확인
+    private int maxEntries = 200_000;
+
+    // 블룸 필터 오탐률 (오탐이면 정확한 집합을 한 번 더 조회)
+    private double falsePositiveRate = 0.001;
+
+    // 다른 인스턴스에서 로그아웃한 토큰을 DB 에서 가져오는 주기
+    private long syncIntervalMs = 5_000;
+
+    // 동기화 커서 다음 번호가 비어 있을 때 커밋을 기다리는 최대 시간 (지나면 롤백된 번호로 보고 건너뜀)
+    private long gapTimeoutMs = 5_000;
+
+    // 만료된 항목 삭제 + 블룸 필터 재생성 주기
+    private long purgeIntervalMs = 600_000;
+}
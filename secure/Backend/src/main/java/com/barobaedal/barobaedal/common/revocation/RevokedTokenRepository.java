@@ -0,0 +1,50 @@
+package com.barobaedal.barobaedal.common.revocation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?)";
+    public static final String FIND_AFTER_SQL = "SELECT id, jti, expires_at FROM revoked_tokens WHERE id > ? ORDER BY id";
+    public static final String IS_REVOKED_SQL = "SELECT COUNT(*) FROM revoked_tokens WHERE jti = ? AND expires_at > ?";
+    public static final String DELETE_EXPIRED_SQL = "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record RevokedToken(long id, String jti, long expiresAt) {
+    }
+
+    public void insert(String jti, long expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, jti, expiresAt);
+        } catch (DuplicateKeyException ignored) {
+            // 같은 토큰으로 두 번 로그아웃
+        }
+    }
+
+    // lastId 이후에 추가된 항목, id 순. 만료된 행도 포함 (동기화 커서가 만료된 번호를 빈 번호로 보지 않게)
+    public List<RevokedToken> findAfter(long lastId) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, (rs, rowNum) -> new RevokedToken(
+                rs.getLong("id"),
+                rs.getString("jti"),
+                rs.getLong("expires_at")), lastId);
+    }
+
+    // 메모리 집합이 가득 찼을 때 (max-entries) 필터 양성인 jti 를 DB 에서 확인
+    public boolean isRevoked(String jti, long now) {
+        Integer count = jdbcTemplate.queryForObject(IS_REVOKED_SQL, Integer.class, jti, now);
+        return count != null && count > 0;
+    }
+
+    public int deleteExpired(long now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, now);
+    }
+}
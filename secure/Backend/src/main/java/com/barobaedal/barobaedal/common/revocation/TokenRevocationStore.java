@@ -0,0 +1,184 @@
+package com.barobaedal.barobaedal.common.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 로그아웃한 토큰(jti)을 토큰 만료 시각까지 보관한다.
+// 인증할 때마다 블룸 필터를 먼저 보고, 필터에 없으면 (대부분의 요청) 정확한 집합은 보지 않는다.
+// 정확한 집합은 메모리(jti -> 만료 시각)에 두고 DB(revoked_tokens)에 남겨서 재시작/다른 인스턴스에도 반영한다.
+// 다른 인스턴스의 로그아웃은 id 커서로 가져오는데, AUTO_INCREMENT 번호는 커밋 순서와 다를 수 있어서
+// 커서 바로 다음 번호가 비어 있으면 커서를 그 자리에 두고 뒤의 행만 먼저 반영한다 (다음 동기화에 다시 읽음).
+// gapTimeoutMs 가 지나도 안 채워지는 번호는 롤백된 것으로 보고 건너뜀 (JdbcInvalidationTransport 와 같은 방식).
+// 만료된 행도 읽어서 커서를 넘긴다 (집합에는 넣지 않음). 만료 조건으로 거르면 그 번호가 빈 번호처럼 보여 커서가 멈춤.
+// 메모리 집합은 maxEntries 까지만 채우고, 넘친 뒤에는 필터 양성인 jti 를 DB 에서 확인한다 (로그아웃한 토큰을 놓치지 않음).
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private final RevocationProperties properties;
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+    // 메모리 집합에 넣지 못한 항목이 있음 (reload 에서 다시 계산)
+    private volatile boolean overflowed;
+    // sync/reload 안에서만 접근 (synchronized)
+    private long lastSyncedId = -1;
+    private long gapAt;         // 기다리고 있는 빈 번호
+    private long gapSince;
+
+    private final Counter filterPositives;
+    private final Counter overflowEntries;
+    private final Counter overflowLookups;
+
+    public TokenRevocationStore(RevocationProperties properties,
+                                RevokedTokenRepository revokedTokenRepository,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.filter.set(newFilter());
+        this.filterPositives = Counter.builder("token.revocation.filter.positive").register(meterRegistry);
+        this.overflowEntries = Counter.builder("token.revocation.overflow.entries").register(meterRegistry);
+        this.overflowLookups = Counter.builder("token.revocation.overflow.lookups").register(meterRegistry);
+        Gauge.builder("token.revocation.entries", revoked, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 다음 동기화 주기에 다시 시도
+            log.warn("[revocation] 로그아웃 토큰 불러오기 실패", e);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.get().mightContain(jti)) {
+            return false;
+        }
+        filterPositives.increment();
+        long now = System.currentTimeMillis();
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt != null) {
+            return expiresAt > now;
+        }
+        if (!overflowed) {
+            return false;
+        }
+        overflowLookups.increment();
+        return revokedTokenRepository.isRevoked(jti, now);
+    }
+
+    public void revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) return;
+        remember(jti, expiresAt);
+        revokedTokenRepository.insert(jti, expiresAt);
+    }
+
+    // 메모리에만 반영 (DB 에서 읽어 온 항목, 벤치마크). 필터 재생성과 겹쳐 새 필터에서 빠지지 않도록 같은 잠금 사용
+    public synchronized void remember(String jti, long expiresAt) {
+        filter.get().put(jti);
+        if (!store(jti, expiresAt) && !overflowed) {
+            overflowed = true;
+            log.warn("[revocation] 로그아웃 토큰이 max-entries({})를 넘음, 이후 필터 양성은 DB 에서 확인",
+                    properties.getMaxEntries());
+        }
+        if (revoked.size() == properties.getExpectedRevocations()) {
+            log.warn("[revocation] 로그아웃 토큰이 expected-revocations({})에 도달, 블룸 필터 오탐률이 올라감",
+                    properties.getExpectedRevocations());
+        }
+    }
+
+    // 집합이 가득 찼으면 넣지 않고 false (이미 있는 jti 는 만료 시각만 갱신)
+    private boolean store(String jti, long expiresAt) {
+        if (revoked.size() >= properties.getMaxEntries() && !revoked.containsKey(jti)) {
+            overflowEntries.increment();
+            return false;
+        }
+        revoked.put(jti, expiresAt);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-revocation.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        if (lastSyncedId < 0) {
+            reload();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long next = lastSyncedId;
+        boolean contiguous = true;
+        for (RevokedTokenRepository.RevokedToken token : revokedTokenRepository.findAfter(lastSyncedId)) {
+            // 커서 뒤의 행은 빈 번호가 있어도 바로 반영 (같은 jti 를 다시 넣어도 결과는 같음). 만료된 행은 번호만 확인
+            if (token.expiresAt() > now) {
+                remember(token.jti(), token.expiresAt());
+            }
+            if (!contiguous) continue;
+            if (token.id() == next + 1) {
+                next = token.id();
+                continue;
+            }
+            long missing = next + 1;
+            if (gapAt != missing) {
+                gapAt = missing;
+                gapSince = now;
+            }
+            if (now - gapSince >= properties.getGapTimeoutMs()) {
+                log.debug("[revocation] {} ~ {} 번 건너뜀 (커밋되지 않음)", missing, token.id() - 1);
+                next = token.id();
+            } else {
+                contiguous = false;
+            }
+        }
+        lastSyncedId = next;
+    }
+
+    // 만료 항목 삭제 후 DB 기준으로 집합과 필터를 다시 만듦
+    @Scheduled(fixedDelayString = "${app.token-revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(System.currentTimeMillis());
+        reload();
+        if (deleted > 0) {
+            log.info("[revocation] 만료 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    // 커서는 처음 불러올 때만 정한다 (이후에는 sync 가 빈 번호를 기다리며 옮기므로 여기서 앞으로 당기지 않음)
+    private synchronized void reload() {
+        long now = System.currentTimeMillis();
+        List<RevokedTokenRepository.RevokedToken> tokens = revokedTokenRepository.findAfter(0);
+        BloomFilter rebuilt = newFilter();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        boolean overflow = false;
+        long maxId = 0;
+        for (RevokedTokenRepository.RevokedToken token : tokens) {
+            maxId = Math.max(maxId, token.id());
+            if (token.expiresAt() <= now) continue;
+            rebuilt.put(token.jti());
+            if (!store(token.jti(), token.expiresAt())) {
+                overflow = true;
+            }
+        }
+        revoked.keySet().forEach(rebuilt::put);
+        filter.set(rebuilt);
+        overflowed = overflow;
+        if (lastSyncedId < 0) {
+            lastSyncedId = maxId;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,124 @@
+package com.barobaedal.barobaedal.common.schema;
+
+import java.util.List;
+
+import com.barobaedal.barobaedal.boards.repository.BoardRepository;
+import com.barobaedal.barobaedal.boards.repository.CommentRepository;
+import com.barobaedal.barobaedal.common.idempotency.IdempotencyRepository;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationRepository;
+import com.barobaedal.barobaedal.common.revocation.RevokedTokenRepository;
+import com.barobaedal.barobaedal.members.repository.MemberRepository;
+import com.barobaedal.barobaedal.members.repository.PointLedgerRepository;
+import com.barobaedal.barobaedal.menus.repository.MenuRepository;
+import com.barobaedal.barobaedal.orders.event.OrderEventRepository;
+import com.barobaedal.barobaedal.orders.repository.OrderRepository;
+import com.barobaedal.barobaedal.stores.repository.StoreRepository;
+
+import java.util.List;
+
+import static com.barobaedal.barobaedal.common.schema.HotQuery.fullScan;
+import static com.barobaedal.barobaedal.common.schema.HotQuery.indexed;
+
+// 리포지토리 쿼리 목록. 리포지토리의 *_SQL 상수를 그대로 EXPLAIN 하므로 쿼리를 고치면 검증 대상도 같이 바뀐다.
+// 새 쿼리 상수를 추가하면 여기에도 등록하고 (HotQueriesTest 가 빠진 상수를 찾음), 필요한 인덱스는 새 마이그레이션으로 추가한다.
+// INSERT 는 실행 계획이 없으므로 제외. sinceVersion 은 쿼리가 기대하는 인덱스가 생기는 마이그레이션 버전.
+public final class HotQueries {
+
+    public static final List<HotQuery> ALL = List.of(
+            // MemberRepository (로그인, 역할/회원 id 조회는 거의 모든 요청에서 실행)
+            indexed("member.findCredential", 2, MemberRepository.FIND_CREDENTIAL_SQL, "user0001"),
+            indexed("member.upgradePassword", 1, MemberRepository.UPGRADE_PASSWORD_SQL, "hash", 1, "pw"),
+            indexed("member.getMemberId", 2, MemberRepository.GET_MEMBER_ID_SQL, "user0001"),
+            indexed("member.existsByUserid", 2, MemberRepository.EXISTS_BY_USERID_SQL, "user0001"),
+            indexed("member.getRole", 2, MemberRepository.GET_ROLE_SQL, "user0001"),
+            indexed("member.getMemberInfo", 2, MemberRepository.GET_MEMBER_SQL, "user0001"),
+            indexed("member.getPoint", 2, MemberRepository.GET_POINT_SQL, "user0001"),
+            indexed("member.update", 2, MemberRepository.UPDATE_SQL,
+                    "name", "2000-01-01", "010-0000-0000", "a@b.c", "addr", "user0001"),
+
+            // PointLedgerRepository
+            indexed("point.add", 1, PointLedgerRepository.ADD_POINT_SQL, 100, 1, 100),
+            indexed("point.balanceForUpdate", 1, PointLedgerRepository.GET_POINT_FOR_UPDATE_SQL, 1),
+            indexed("point.balance", 1, PointLedgerRepository.GET_POINT_SQL, 1),
+            indexed("point.findByIdempotencyKey", 2, PointLedgerRepository.FIND_BY_IDEMPOTENCY_KEY_SQL, 1, "key"),
+            indexed("point.history", 2, PointLedgerRepository.FIND_HISTORY_SQL, 1, 20),
+            indexed("point.historyAfter", 2, PointLedgerRepository.FIND_HISTORY_AFTER_SQL, 1, 100, 20),
+
+            // StoreRepository
+            indexed("store.findById", 1, StoreRepository.FIND_BY_ID_SQL, 1),
+            indexed("store.update", 1, StoreRepository.UPDATE_SQL,
+                    "한식", "name", "addr", "010-0000-0000", 9, 0, 21, 0, "thumb", 1),
+            indexed("store.updateByMemberId", 2, StoreRepository.UPDATE_BY_MEMBER_ID_SQL,
+                    "한식", "name", "addr", "010-0000-0000", 9, 0, 21, 0, "thumb", 1),
+            indexed("store.findMemberIdByStoreId", 2, StoreRepository.FIND_MEMBER_ID_BY_STORE_ID_SQL, 1),
+            indexed("store.findStoreIdByMemberId", 2, StoreRepository.FIND_STORE_ID_BY_MEMBER_ID_SQL, 1),
+            indexed("store.delete", 1, StoreRepository.DELETE_SQL, 1),
+            fullScan("store.findAll", "상점 전체 목록 (응답 캐시에서 제공)", StoreRepository.FIND_ALL_SQL),
+            fullScan("store.findByNameLike", "부분 일치 검색 (앞에 % 가 붙어 인덱스 사용 불가)",
+                    StoreRepository.FIND_BY_NAME_LIKE_SQL, "%치킨%"),
+
+            // MenuRepository
+            indexed("menu.findById", 1, MenuRepository.FIND_BY_ID_SQL, 1),
+            indexed("menu.findAllByStoreId", 2, MenuRepository.FIND_ALL_BY_STORE_ID_SQL, 1),
+            indexed("menu.update", 1, MenuRepository.UPDATE_SQL, "title", "content", 10000, "thumb", 1),
+            indexed("menu.delete", 1, MenuRepository.DELETE_SQL, 1),
+
+            // OrderRepository
+            indexed("order.menuPrice", 1, OrderRepository.FIND_MENU_PRICE_SQL, 1, 1),
+            indexed("order.findById", 1, OrderRepository.FIND_BY_ID_SQL, 1),
+            indexed("order.findByMemberId", 2, OrderRepository.FIND_BY_MEMBER_ID_SQL, 1),
+            indexed("order.findByStoreId", 2, OrderRepository.FIND_BY_STORE_ID_SQL, 1),
+            indexed("order.findOrdersByDateRange", 2, OrderRepository.FIND_BY_DATE_RANGE_SQL, 1, "2025-01-01", "2025-01-31"),
+            indexed("order.update", 1, OrderRepository.UPDATE_SQL, 1, 1, 1, 1, 10000, "2025-01-01 12:00", 1),
+            indexed("order.delete", 1, OrderRepository.DELETE_SQL, 1),
+            indexed("order.findSalesByStoreAndMonth", 2, OrderRepository.FIND_SALES_BY_STORE_AND_MONTH_SQL, 1, "2025-01"),
+            indexed("order.storeName", 1, OrderRepository.FIND_STORE_NAME_SQL, 1),
+            indexed("order.streamOrders", 2, OrderRepository.STREAM_ORDERS_SQL, "2025-01-01", "2025-02-01"),
+            indexed("order.streamSales", 2, OrderRepository.STREAM_SALES_SQL, "2025-01-01", "2025-02-01"),
+            indexed("order.streamStoreSales", 2, OrderRepository.STREAM_STORE_SALES_SQL, "2025-01-01", "2025-02-01", 1),
+            fullScan("order.findAllOrders", "관리자 전체 주문 목록", OrderRepository.FIND_ALL_ORDERS_SQL),
+
+            // BoardRepository / CommentRepository
+            indexed("board.findByCategory", 2, BoardRepository.FIND_BY_CATEGORY_SQL, "notice"),
+            indexed("board.findByCategoryAndMember", 2, BoardRepository.FIND_BY_CATEGORY_AND_MEMBER_SQL, "qna", 1),
+            indexed("board.findPage", 2, BoardRepository.FIND_PAGE_SQL, "notice", 20),
+            indexed("board.findPageAfter", 2, BoardRepository.FIND_PAGE_AFTER_SQL, "notice", 100, 20),
+            indexed("board.findMemberPage", 2, BoardRepository.FIND_MEMBER_PAGE_SQL, "qna", 1, 20),
+            indexed("board.findMemberPageAfter", 2, BoardRepository.FIND_MEMBER_PAGE_AFTER_SQL, "qna", 1, 100, 20),
+            indexed("board.findById", 1, BoardRepository.FIND_BY_ID_SQL, 1),
+            indexed("board.update", 1, BoardRepository.UPDATE_SQL, "title", "content", 1, 1, "qna"),
+            indexed("board.addCommentCount", 2, BoardRepository.ADD_COMMENT_COUNT_SQL, 1, 1),
+            indexed("board.delete", 1, BoardRepository.DELETE_SQL, 1),
+            indexed("comment.findPage", 2, CommentRepository.FIND_PAGE_SQL, 1, 20),
+            indexed("comment.findPageAfter", 2, CommentRepository.FIND_PAGE_AFTER_SQL, 1, 0, 20),
+            indexed("comment.findById", 1, CommentRepository.FIND_BY_ID_SQL, 1),
+            indexed("comment.update", 1, CommentRepository.UPDATE_SQL, "content", 1),
+            indexed("comment.delete", 1, CommentRepository.DELETE_SQL, 1),
+
+            // RevokedTokenRepository
+            indexed("revocation.findAfter", 3, RevokedTokenRepository.FIND_AFTER_SQL, 1000L),
+            indexed("revocation.isRevoked", 3, RevokedTokenRepository.IS_REVOKED_SQL, "jti", 0L),
+            indexed("revocation.purge", 3, RevokedTokenRepository.DELETE_EXPIRED_SQL, 0L),
+
+            // InvalidationRepository (모든 인스턴스가 poll-interval-ms 마다 실행)
+            indexed("invalidation.maxId", 4, InvalidationRepository.MAX_ID_SQL),
+            indexed("invalidation.findAfter", 4, InvalidationRepository.FIND_AFTER_SQL, 0L, 500),
+            indexed("invalidation.purge", 4, InvalidationRepository.DELETE_BEFORE_SQL, 0L),
+
+            // OrderEventRepository (relay 가 poll-interval-ms 마다 실행)
+            indexed("orderEvent.claim", 5, OrderEventRepository.CLAIM_SQL, 0L, 100),
+            indexed("orderEvent.extendLease", 5, OrderEventRepository.EXTEND_LEASE_SQL, 0L, 1L),
+            indexed("orderEvent.markDone", 5, OrderEventRepository.MARK_DONE_SQL, 0L, 1L),
+            indexed("orderEvent.retryAt", 5, OrderEventRepository.RETRY_AT_SQL, 0L, "error", 1L),
+            indexed("orderEvent.markFailed", 5, OrderEventRepository.MARK_FAILED_SQL, 0L, "error", 1L),
+            indexed("orderEvent.purge", 5, OrderEventRepository.DELETE_DONE_BEFORE_SQL, 0L),
+
+            // IdempotencyRepository
+            indexed("idempotency.find", 2, IdempotencyRepository.FIND_SQL, "user:user0001", "key", 0L),
+            indexed("idempotency.deleteExpiredKey", 2, IdempotencyRepository.DELETE_EXPIRED_KEY_SQL, "user:user0001", "key", 0L),
+            indexed("idempotency.purge", 2, IdempotencyRepository.DELETE_EXPIRED_SQL, 0L)
+    );
+
+    private HotQueries() {
+    }
+}
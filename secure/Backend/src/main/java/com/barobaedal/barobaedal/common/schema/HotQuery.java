@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.common.schema;
+
+// 실행 계획을 검증할 리포지토리 쿼리.
+// sinceVersion 이후의 스키마에서는 인덱스를 타야 하고, fullScanReason 이 있으면 전체 스캔을 허용한다.
+public record HotQuery(String name, int sinceVersion, String sql, Object[] args, String fullScanReason) {
+
+    public static HotQuery indexed(String name, int sinceVersion, String sql, Object... args) {
+        return new HotQuery(name, sinceVersion, sql, args, null);
+    }
+
+    public static HotQuery fullScan(String name, String reason, String sql, Object... args) {
+        return new HotQuery(name, 1, sql, args, reason);
+    }
+}
@@ -0,0 +1,57 @@
+package com.barobaedal.barobaedal.common.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 마이그레이션이 끝난 스키마에서 HotQueries 의 쿼리를 EXPLAIN 하고,
+// fullScan 으로 표시하지 않은 쿼리가 전체 스캔(type=ALL)으로 계획되면 실패시킨다.
+// 인덱스가 있는데도 전체 스캔을 고른 경우도 실패로 본다 (조건과 인덱스 컬럼 순서가 맞지 않거나 타입 변환으로 인덱스를 못 타는 경우).
+@Slf4j
+@Component
+public class QueryPlanVerifier {
+
+    // JdbcTemplate 빈은 Flyway 초기화 이후에 만들어지므로 마이그레이션 전략 안에서 쓸 수 있게 직접 생성
+    private final JdbcTemplate jdbcTemplate;
+
+    public QueryPlanVerifier(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void verify(int schemaVersion) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"MariaDB".equalsIgnoreCase(product) && !"MySQL".equalsIgnoreCase(product)) {
+            log.info("[schema] {} 은 EXPLAIN 형식이 달라 실행 계획 검증을 건너뜀", product);
+            return;
+        }
+
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+        for (HotQuery query : HotQueries.ALL) {
+            if (query.sinceVersion() > schemaVersion) continue;
+            checked++;
+            for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.args())) {
+                if (!"ALL".equalsIgnoreCase(String.valueOf(row.get("type"))) || query.fullScanReason() != null) continue;
+
+                Object table = row.get("table");
+                Object possibleKeys = row.get("possible_keys");
+                if (possibleKeys == null) {
+                    failures.add(query.name() + " -> " + table + " (인덱스 없음)");
+                } else {
+                    failures.add(query.name() + " -> " + table + " (인덱스 " + possibleKeys + " 미사용, 행 수 " + row.get("rows") + ")");
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("스키마 V" + schemaVersion + " 에서 전체 스캔하는 쿼리: " + failures);
+        }
+        log.info("[schema] V{} 실행 계획 검증 완료 ({}개 쿼리)", schemaVersion, checked);
+    }
+}
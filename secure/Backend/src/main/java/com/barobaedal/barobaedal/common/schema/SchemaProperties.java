@@ -0,0 +1,17 @@
+package com.barobaedal.barobaedal.common.schema;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.schema")
+public class SchemaProperties {
+
+    // 마이그레이션 후 HotQueries 의 쿼리를 EXPLAIN 해서 인덱스 없이 전체 스캔하는 쿼리가 있으면 기동 실패
+    private boolean verifyPlans = true;
+
+    // true 면 마이그레이션 + 검증만 하고 종료 (./gradlew migrateDb)
+    private boolean migrateOnly = false;
+}
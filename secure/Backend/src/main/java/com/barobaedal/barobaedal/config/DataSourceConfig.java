@@ -0,0 +1,50 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.common.bulkhead.BulkheadProperties;
+import com.barobaedal.barobaedal.common.bulkhead.BulkheadRoutingDataSource;
+import com.barobaedal.barobaedal.common.jdbc.InstrumentedDataSource;
+import com.barobaedal.barobaedal.common.jdbc.JdbcEventListener;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class DataSourceConfig {
+
+    // 벌크헤드마다 별도의 Hikari 풀을 만들어 리포팅 쿼리가 주문 접수용 커넥션을 점유하지 못하게 함
+    // 모든 커넥션은 InstrumentedDataSource 를 거쳐 쿼리별 메트릭을 남김
+    @Bean(destroyMethod = "close")
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 BulkheadProperties bulkheadProperties,
+                                 MeterRegistry meterRegistry,
+                                 List<JdbcEventListener> jdbcEventListeners) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        bulkheadProperties.getGroups().forEach((name, group) -> {
+            HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            pool.setPoolName("hikari-" + name);
+            pool.setMaximumPoolSize(group.getPoolSize());
+            pool.setMinimumIdle(Math.min(2, group.getPoolSize()));
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(name, pool);
+        });
+
+        BulkheadRoutingDataSource routingDataSource =
+                new BulkheadRoutingDataSource(pools, bulkheadProperties.getDefaultGroup());
+        routingDataSource.afterPropertiesSet();
+        return new InstrumentedDataSource(routingDataSource, jdbcEventListeners);
+    }
+}
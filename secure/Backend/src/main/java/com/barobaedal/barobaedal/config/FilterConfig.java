@@ -1,17 +1,52 @@
 package com.barobaedal.barobaedal.config;
 
 import com.barobaedal.barobaedal.common.JwtAuthFilter;
+import com.barobaedal.barobaedal.common.concurrency.AdaptiveConcurrencyFilter;
+import com.barobaedal.barobaedal.common.concurrency.AdaptiveLimitProperties;
+import com.barobaedal.barobaedal.common.idempotency.IdempotencyFilter;
+import com.barobaedal.barobaedal.common.idempotency.IdempotencyProperties;
+import com.barobaedal.barobaedal.common.ratelimit.RateLimitFilter;
+import com.barobaedal.barobaedal.common.ratelimit.RateLimitProperties;
+import com.barobaedal.barobaedal.common.responsecache.ResponseCacheFilter;
+import com.barobaedal.barobaedal.common.responsecache.ResponseCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties({IdempotencyProperties.class, RateLimitProperties.class, AdaptiveLimitProperties.class,
+        ResponseCacheProperties.class})
 public class FilterConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final IdempotencyFilter idempotencyFilter;
+    private final IdempotencyProperties idempotencyProperties;
+    private final RateLimitFilter rateLimitFilter;
+    private final RateLimitProperties rateLimitProperties;
+    private final AdaptiveConcurrencyFilter adaptiveConcurrencyFilter;
+    private final AdaptiveLimitProperties adaptiveLimitProperties;
+    private final ResponseCacheFilter responseCacheFilter;
+    private final ResponseCacheProperties responseCacheProperties;
 
-    public FilterConfig(JwtAuthFilter jwtAuthFilter) {
+    public FilterConfig(JwtAuthFilter jwtAuthFilter,
+                        IdempotencyFilter idempotencyFilter,
+                        IdempotencyProperties idempotencyProperties,
+                        RateLimitFilter rateLimitFilter,
+                        RateLimitProperties rateLimitProperties,
+                        AdaptiveConcurrencyFilter adaptiveConcurrencyFilter,
+                        AdaptiveLimitProperties adaptiveLimitProperties,
+                        ResponseCacheFilter responseCacheFilter,
+                        ResponseCacheProperties responseCacheProperties) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.idempotencyFilter = idempotencyFilter;
+        this.idempotencyProperties = idempotencyProperties;
+        this.rateLimitFilter = rateLimitFilter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.adaptiveConcurrencyFilter = adaptiveConcurrencyFilter;
+        this.adaptiveLimitProperties = adaptiveLimitProperties;
+        this.responseCacheFilter = responseCacheFilter;
+        this.responseCacheProperties = responseCacheProperties;
     }
 
     @Bean
@@ -20,10 +55,56 @@ public class FilterConfig {
         registrationBean.setFilter(jwtAuthFilter);
 
         // 필터를 적용할 URL 패턴 지정
-        //registrationBean.addUrlPatterns("/*");
-        registrationBean.addUrlPatterns("/api/member/*");
+        // 모든 API 에서 토큰을 한 번만 검증 (로그인 필요 여부는 AuthInterceptor 에서 판단)
+        registrationBean.addUrlPatterns("/api/*");
 
         registrationBean.setOrder(2); // 필터 실행 순서 지정 가능
         return registrationBean;
     }
+
+    // 경로별 요청 수 제한 (app.rate-limit.rules), JWT 필터 다음에 실행되어 userid 가 있으면 사용자 단위로 제한
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(rateLimitFilter);
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setEnabled(rateLimitProperties.isEnabled());
+        registrationBean.setOrder(3);
+        return registrationBean;
+    }
+
+    // 주문/포인트 쓰기 요청의 재시도 중복 처리 방지 (app.idempotency.paths)
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration() {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(idempotencyFilter);
+        registrationBean.setUrlPatterns(idempotencyProperties.getPaths());
+        registrationBean.setEnabled(!idempotencyProperties.getPaths().isEmpty());
+        registrationBean.setOrder(4);
+        return registrationBean;
+    }
+
+    // 상점/메뉴 조회 응답 바이트 캐시 (app.response-cache.paths)
+    // 동시 처리 한도보다 앞에 두어, 캐시에서 바로 나가는 응답은 자리를 차지하지 않고 지연 표본에도 섞이지 않게 함
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilterRegistration() {
+        FilterRegistrationBean<ResponseCacheFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(responseCacheFilter);
+        registrationBean.setUrlPatterns(responseCacheProperties.getPaths());
+        registrationBean.setEnabled(responseCacheProperties.isEnabled() && !responseCacheProperties.getPaths().isEmpty());
+        registrationBean.setOrder(5);
+        return registrationBean;
+    }
+
+    // 지연 시간에 따라 조정되는 동시 처리 한도 (app.adaptive-limit)
+    // 멱등성 필터 다음에 두어, 같은 키의 처리를 기다리기만 하는 요청이 자리를 차지하지 않도록 함
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilterRegistration() {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(adaptiveConcurrencyFilter);
+        registrationBean.addUrlPatterns("/api/*");
+        registrationBean.setEnabled(adaptiveLimitProperties.isEnabled());
+        registrationBean.setOrder(6);
+        return registrationBean;
+    }
 }
@@ -0,0 +1,39 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.common.schema.QueryPlanVerifier;
+import com.barobaedal.barobaedal.common.schema.SchemaProperties;
+import org.flywaydb.core.api.MigrationInfo;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 기동 시 db/migration 의 버전별 마이그레이션을 적용하고, 적용된 스키마 버전 기준으로 실행 계획을 검증한다.
+// 검증에 실패하면 기동이 중단되어 인덱스가 빠진 상태로 트래픽을 받지 않는다.
+@Configuration
+@EnableConfigurationProperties(SchemaProperties.class)
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(QueryPlanVerifier queryPlanVerifier,
+                                                           SchemaProperties schemaProperties) {
+        return flyway -> {
+            flyway.migrate();
+            MigrationInfo current = flyway.info().current();
+            if (schemaProperties.isVerifyPlans() && current != null && current.getVersion() != null) {
+                queryPlanVerifier.verify(current.getVersion().getMajor().intValue());
+            }
+        };
+    }
+
+    // ./gradlew migrateDb : 마이그레이션 + 검증 후 바로 종료
+    @Bean
+    @ConditionalOnProperty(prefix = "app.schema", name = "migrate-only", havingValue = "true")
+    public ApplicationRunner migrateOnlyRunner(ConfigurableApplicationContext context) {
+        return args -> System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,11 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.common.invalidation.InvalidationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 인스턴스 간 로컬 캐시 무효화 (app.invalidation)
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+}
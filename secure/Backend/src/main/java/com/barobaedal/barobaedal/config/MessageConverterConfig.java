@@ -0,0 +1,26 @@
+package com.barobaedal.barobaedal.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// Accept 헤더로 바이너리 인코딩을 고를 수 있게 함 (같은 CommonResponse 를 CBOR/Smile 로 직렬화)
+// Accept 가 없거나 */* 이면 기본 컨버터 순서대로 JSON 이 선택된다.
+// 기본 컨버터와 같은 타입의 빈이라 목록에서 같은 위치(JSON 뒤)를 대체하고, Boot 의 Jackson 설정을 그대로 따른다.
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,11 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.orders.notification.NotificationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 사장님 주문 알림 (app.notification)
+@Configuration
+@EnableConfigurationProperties(NotificationProperties.class)
+public class NotificationConfig {
+}
@@ -0,0 +1,11 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.orders.event.OrderEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 주문 이벤트 아웃박스 전달 (app.order-events)
+@Configuration
+@EnableConfigurationProperties(OrderEventProperties.class)
+public class OrderEventConfig {
+}
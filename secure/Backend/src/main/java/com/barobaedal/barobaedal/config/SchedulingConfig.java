@@ -0,0 +1,10 @@
+package com.barobaedal.barobaedal.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 만료 데이터 정리 등 주기 작업 (@Scheduled)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
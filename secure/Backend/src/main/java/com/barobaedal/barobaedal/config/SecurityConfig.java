@@ -0,0 +1,13 @@
+package com.barobaedal.barobaedal.config;
+
+import com.barobaedal.barobaedal.common.auth.JwtKeyProperties;
+import com.barobaedal.barobaedal.common.password.PasswordProperties;
+import com.barobaedal.barobaedal.common.revocation.RevocationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 비밀번호 해시 (app.password), 로그아웃 토큰 무효화 (app.token-revocation), JWT 서명 키 (app.jwt)
+@Configuration
+@EnableConfigurationProperties({PasswordProperties.class, RevocationProperties.class, JwtKeyProperties.class})
+public class SecurityConfig {
+}
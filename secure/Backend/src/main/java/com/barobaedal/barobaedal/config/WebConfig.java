@@ -1,23 +1,42 @@
 package com.barobaedal.barobaedal.config;
 
+import com.barobaedal.barobaedal.common.auth.AuthInterceptor;
+import com.barobaedal.barobaedal.common.auth.LoginUserArgumentResolver;
+import com.barobaedal.barobaedal.common.bulkhead.BulkheadInterceptor;
+import com.barobaedal.barobaedal.common.idempotency.IdempotencyFilter;
+import com.barobaedal.barobaedal.common.jdbc.QueryBudgetInterceptor;
+import com.barobaedal.barobaedal.common.jdbc.QueryBudgetProperties;
+import com.barobaedal.barobaedal.common.jdbc.QueryCountResponseAdvice;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.io.File;
+import java.util.List;
 
 
 // 수정필요
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(QueryBudgetProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Value("${app.upload.dir}")
     private String uploadDir;
 
+    private final AuthInterceptor authInterceptor;
+    private final LoginUserArgumentResolver loginUserArgumentResolver;
+    private final BulkheadInterceptor bulkheadInterceptor;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
 
@@ -26,7 +45,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 허용할 HTTP 메서드
                 .allowedHeaders("*") // 모든 헤더 허용
-                .exposedHeaders("Authorization") // JWT 토큰 등 응답 헤더 노출
+                .exposedHeaders("Authorization", // JWT 토큰 등 응답 헤더 노출
+                        QueryCountResponseAdvice.QUERY_COUNT_HEADER,
+                        QueryCountResponseAdvice.QUERY_TIME_HEADER,
+                        IdempotencyFilter.REPLAYED_HEADER)
                 .allowCredentials(true); // 인증정보(쿠키 등) 허용 필요시 true, 아니면 생략
     }
 
@@ -38,4 +60,20 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/upload/**")
                 .addResourceLocations("file:" + absolutePath + "/");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 로그인 확인을 가장 먼저 해서, 인증되지 않은 요청이 bulkhead 자리를 차지하지 않게 함
+        registry.addInterceptor(authInterceptor)
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(bulkheadInterceptor)
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(queryBudgetInterceptor)
+                .addPathPatterns("/api/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginUserArgumentResolver);
+    }
 }
@@ -1,11 +1,16 @@
 package com.barobaedal.barobaedal.members.controller;
 
 import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.auth.AuthPrincipal;
+import com.barobaedal.barobaedal.common.auth.LoginUser;
+import com.barobaedal.barobaedal.common.auth.PublicApi;
+import com.barobaedal.barobaedal.common.exception.BaseException;
 import com.barobaedal.barobaedal.common.response.CommonResponse;
+import com.barobaedal.barobaedal.common.response.MessageCode;
 import com.barobaedal.barobaedal.common.response.ResponseType;
 import com.barobaedal.barobaedal.members.dto.*;
 import com.barobaedal.barobaedal.members.service.MemberService;
-import com.barobaedal.barobaedal.stores.service.StoreService;
+import com.barobaedal.barobaedal.members.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,9 +20,10 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
-    private final StoreService storeService;
+    private final PointService pointService;
     private final JwtUtil jwtUtil;
 
+    @PublicApi
     @PostMapping("/register")
     public CommonResponse<Object> signUp(@RequestBody RegisterRequestDto dto) {
         try {
@@ -39,9 +45,8 @@ public class MemberController {
 
     @GetMapping("/info")
     public CommonResponse<Object> getMember(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
+            @LoginUser String userid
     ) {
-        String userid = jwtUtil.auth(authHeader);
         MemberDto member = memberService.getMember(userid);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
@@ -52,10 +57,9 @@ public class MemberController {
 
     @PostMapping("/info")
     public CommonResponse<Object> updateMember(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @RequestBody MemberDto dto
     ) {
-        String userid = jwtUtil.auth(authHeader);
         dto.setUserid(userid);
         memberService.updateMember(dto);
         return CommonResponse.builder()
@@ -65,15 +69,12 @@ public class MemberController {
                 .build();
     }
 
+    // 비밀번호 검증은 해시 풀에서 (동시 bcrypt 수는 풀 크기로 제한, 풀이 가득 차면 바로 거절)
+    @PublicApi
     @PostMapping("/login")
     public CommonResponse<Object> login(@RequestBody LoginRequestDto request) {
         LoginResponseDto response = memberService.login(request.getUserid(), request.getUserpw());
-        Integer MemberId = memberService.getMemberId(request.getUserid());
-        Integer storeId = storeService.findStoreIdByMemberId(MemberId);
-        String role = memberService.getMemberRole(request.getUserid());
-        response.setStoreId(storeId);
-        response.setRole(role);
-        if (response.getToken() != null) {
+        if (response != null) {
             return CommonResponse.builder()
                     .responseType(ResponseType.SUCCESS)
                     .data(response)
@@ -88,11 +89,10 @@ public class MemberController {
         }
     }
 
-    // TBD
+    // 토큰을 만료 시각까지 무효 처리 (이후 같은 토큰으로 오는 요청은 인증 실패)
     @PostMapping("/logout")
-    public CommonResponse<Object> logout(@RequestHeader("Authorization") String authorization) {
-        // 간단 구현: 실제로는 JWT 블랙리스트에 토큰 저장 후 인증 필터에서 차단 처리해야 함
-        // 여기서는 클라이언트가 토큰을 삭제하도록 권고하는 방식
+    public CommonResponse<Object> logout(@LoginUser AuthPrincipal principal) {
+        jwtUtil.revoke(principal);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(null)
@@ -102,25 +102,24 @@ public class MemberController {
 
     @PostMapping("/point/add")
     public CommonResponse<Object> addPoint(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PointDto pointDto
     ) {
-        String userid = jwtUtil.auth(authHeader);
-        Integer userPoint = memberService.getMemberPoint(userid);
-        int setPoint = userPoint + pointDto.getPoint();
-        memberService.updatePoint(userid, setPoint);
+        int amount = requirePoint(pointDto);
+        Integer memberId = memberService.getMemberId(userid);
+        PointLedgerDto ledger = pointService.charge(memberId, amount, idempotencyKey);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
-                .data(null)
+                .data(ledger)
                 .message("포인트 충전 완료")
                 .build();
     }
 
     @GetMapping("/point/info")
     public CommonResponse<Object> infoPoint(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
+            @LoginUser String userid
     ) {
-        String userid = jwtUtil.auth(authHeader);
         Integer userPoint = memberService.getMemberPoint(userid);
         PointDto pointDto = new PointDto();
         pointDto.setPoint(userPoint);
@@ -131,17 +130,46 @@ public class MemberController {
                 .build();
     }
 
+    // 잔액 지정 (차액을 원장에 ADJUST 로 기록). 충전 없이 잔액을 바꿀 수 있으므로 관리자만
     @PostMapping("/point/info")
     public CommonResponse<Object> setPoint(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PointDto pointDto
     ) {
-        String userid = jwtUtil.auth(authHeader);
-        memberService.updatePoint(userid, pointDto.getPoint());
+        if (!"ADMIN".equals(memberService.getMemberRole(userid))) {
+            throw new BaseException(MessageCode.COMMON_FORBIDDEN.getMessage());
+        }
+        int balance = requirePoint(pointDto);
+        Integer memberId = memberService.getMemberId(userid);
+        PointLedgerDto ledger = pointService.setBalance(memberId, balance, idempotencyKey);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
-                .data(null)
+                .data(ledger)
                 .message("포인트 수정 완료")
                 .build();
     }
-}
\ No newline at end of file
+
+    // 포인트 내역 (최신순, cursor 는 이전 응답의 nextCursor)
+    @GetMapping("/point/history")
+    public CommonResponse<Object> pointHistory(
+            @LoginUser String userid,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Integer memberId = memberService.getMemberId(userid);
+        return CommonResponse.builder()
+                .responseType(ResponseType.SUCCESS)
+                .data(pointService.getHistory(memberId, cursor, size))
+                .message("포인트 내역 조회 완료")
+                .build();
+    }
+
+    // 본문에 point 가 없거나 null 이면 언박싱 NPE(500) 대신 잘못된 요청으로 응답
+    private static int requirePoint(PointDto pointDto) {
+        if (pointDto == null || pointDto.getPoint() == null) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+        }
+        return pointDto.getPoint();
+    }
+}
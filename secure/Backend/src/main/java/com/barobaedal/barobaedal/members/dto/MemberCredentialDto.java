@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.members.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인에 필요한 값을 한 번에 조회 (storeId 는 상점이 없으면 null)
+@Getter
+@AllArgsConstructor
+public class MemberCredentialDto {
+    private Integer id;
+    private String role;
+    private Integer storeId;
+    private String passwordHash;
+}
@@ -6,5 +6,5 @@ import lombok.Setter;
 @Getter
 @Setter
 public class PointDto {
-    private int point;
+    private Integer point;
 }
@@ -0,0 +1,14 @@
+package com.barobaedal.barobaedal.members.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PointHistoryResponse {
+
+    private List<PointLedgerDto> items;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+}
@@ -0,0 +1,16 @@
+package com.barobaedal.barobaedal.members.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PointLedgerDto {
+    private Long id;
+    private String type;          // CHARGE, USE, ADJUST
+    private Integer amount;       // 증감액 (사용은 음수)
+    private Integer balanceAfter; // 반영 후 잔액
+    private String createdAt;
+}
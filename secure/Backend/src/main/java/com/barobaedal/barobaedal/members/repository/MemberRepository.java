@@ -1,21 +1,55 @@
 package com.barobaedal.barobaedal.members.repository;
 
+import com.barobaedal.barobaedal.members.dto.MemberCredentialDto;
 import com.barobaedal.barobaedal.members.dto.MemberDto;
 import com.barobaedal.barobaedal.members.dto.RegisterRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class MemberRepository {
 
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO members (userid, userpw, name, birth, phone, email, address, role, point, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    public static final String UPDATE_SQL = "UPDATE members SET name = ?, birth = ?, phone = ?, email = ?, address = ? WHERE userid = ?";
+    public static final String GET_MEMBER_SQL = "SELECT userid, name, birth, phone, email, address, point FROM members WHERE userid = ?";
+    public static final String FIND_CREDENTIAL_SQL = "SELECT m.id, m.role, m.userpw, " +
+            "(SELECT s.id FROM stores s WHERE s.member_id = m.id ORDER BY s.id LIMIT 1) AS store_id " +
+            "FROM members m WHERE m.userid = ?";
+    public static final String UPGRADE_PASSWORD_SQL = "UPDATE members SET userpw = ? WHERE id = ? AND userpw = ?";
+    public static final String GET_MEMBER_ID_SQL = "SELECT id FROM members WHERE userid = ?";
+    public static final String EXISTS_BY_USERID_SQL = "SELECT COUNT(*) FROM members WHERE userid = ?";
+    public static final String GET_POINT_SQL = "SELECT point FROM members WHERE userid = ?";
+    public static final String GET_ROLE_SQL = "SELECT role FROM members WHERE userid = ?";
+
     private final JdbcTemplate jdbcTemplate;
 
+    private final RowMapper<MemberDto> memberMapper = (rs, rowNum) -> {
+        MemberDto member = new MemberDto();
+        member.setUserid(rs.getString("userid"));
+        member.setName(rs.getString("name"));
+        member.setBirth(rs.getString("birth"));
+        member.setPhone(rs.getString("phone"));
+        member.setEmail(rs.getString("email"));
+        member.setAddress(rs.getString("address"));
+        member.setPoint(rs.getInt("point"));
+        return member;
+    };
+
+    private final RowMapper<MemberCredentialDto> credentialMapper = (rs, rowNum) -> new MemberCredentialDto(
+            rs.getInt("id"),
+            rs.getString("role"),
+            (Integer) rs.getObject("store_id"),
+            rs.getString("userpw"));
+
     public int insertMember(RegisterRequestDto dto) {
-        String sql = "INSERT INTO members (userid, userpw, name, birth, phone, email, address, role, point, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(INSERT_SQL,
                 dto.getUserid(),
                 dto.getUserpw(),
                 dto.getName(),
@@ -29,8 +63,7 @@ public class MemberRepository {
     }
 
     public int updateMember(MemberDto dto) {
-        String sql = "UPDATE members SET name = ?, birth = ?, phone = ?, email = ?, address = ? WHERE userid = ?";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(UPDATE_SQL,
                 dto.getName(),
                 dto.getBirth(),
                 dto.getPhone(),
@@ -40,25 +73,18 @@ public class MemberRepository {
     }
 
     public MemberDto getMember(String userid) {
-        String sql = "SELECT userid, name, birth, phone, email, address, point FROM members WHERE userid = ?";
-        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
-            MemberDto member = new MemberDto();
-            member.setUserid(rs.getString("userid"));
-            member.setName(rs.getString("name"));
-            member.setBirth(rs.getString("birth"));
-            member.setPhone(rs.getString("phone"));
-            member.setEmail(rs.getString("email"));
-            member.setAddress(rs.getString("address"));
-            member.setPoint(rs.getInt("point"));
-            return member;
-        }, userid);
+        return jdbcTemplate.queryForObject(GET_MEMBER_SQL, memberMapper, userid);
     }
 
-    // 안전한 로그인 검증
-    public boolean checkLogin(String userid, String userpw) {
-        String sql = "SELECT COUNT(*) FROM members WHERE userid = ? AND userpw = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userid, userpw);
-        return count != null && count > 0;
+    // 로그인: 회원 id, 역할, 상점 id, 비밀번호 해시를 한 번에 조회 (비밀번호 비교는 PasswordHasher 에서)
+    public MemberCredentialDto findCredential(String userid) {
+        List<MemberCredentialDto> rows = jdbcTemplate.query(FIND_CREDENTIAL_SQL, credentialMapper, userid);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // 평문/낮은 cost 해시를 새 해시로 교체 (그 사이 비밀번호가 바뀌었으면 건너뜀)
+    public int upgradePassword(int memberId, String currentHash, String newHash) {
+        return jdbcTemplate.update(UPGRADE_PASSWORD_SQL, newHash, memberId, currentHash);
     }
 
     // VULNERABLE VERSION: SQL Injection 취약점
@@ -78,45 +104,34 @@ public class MemberRepository {
     }
 
     public Integer getMemberId(String userid) {
-        String sql = "SELECT id FROM members WHERE userid = ?";
-        return jdbcTemplate.queryForObject(sql, Integer.class, userid);
+        return jdbcTemplate.queryForObject(GET_MEMBER_ID_SQL, Integer.class, userid);
     }
 
     public boolean existsByUserid(String userid) {
-        String sql = "SELECT COUNT(*) FROM members WHERE userid = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userid);
+        Integer count = jdbcTemplate.queryForObject(EXISTS_BY_USERID_SQL, Integer.class, userid);
         return count != null && count > 0;
     }
 
-    public int updatePoint(String userid, int point) {
-        String sql = "UPDATE members SET point = ? WHERE userid = ?";
-        return jdbcTemplate.update(sql, point, userid);
-    }
-
     public Integer getPoint(String userid) {
-        String sql = "SELECT point FROM members WHERE userid = ?";
-        return jdbcTemplate.queryForObject(sql, Integer.class, userid);
+        return jdbcTemplate.queryForObject(GET_POINT_SQL, Integer.class, userid);
     }
 
     public String getMemberRole(String userid) {
-        String sql = "SELECT role FROM members WHERE userid = ?";
-        return jdbcTemplate.queryForObject(sql, String.class, userid);
+        return jdbcTemplate.queryForObject(GET_ROLE_SQL, String.class, userid);
     }
 
     public Integer getMemberIdByUserid(String userid) {
-        String sql = "SELECT id FROM members WHERE userid = ?";
         System.out.println("[getMemberIdByUserid] userid: " + userid);
         try {
-            return jdbcTemplate.queryForObject(sql, Integer.class, userid);
+            return jdbcTemplate.queryForObject(GET_MEMBER_ID_SQL, Integer.class, userid);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
     }
 
     public String getRole(String userid) {
-        String sql = "SELECT role FROM members WHERE userid = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, String.class, userid);
+            return jdbcTemplate.queryForObject(GET_ROLE_SQL, String.class, userid);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
@@ -0,0 +1,81 @@
+package com.barobaedal.barobaedal.members.repository;
+
+import com.barobaedal.barobaedal.members.dto.PointLedgerDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String ADD_POINT_SQL = "UPDATE members SET point = point + ? WHERE id = ? AND point + ? >= 0";
+    public static final String GET_POINT_FOR_UPDATE_SQL = "SELECT point FROM members WHERE id = ? FOR UPDATE";
+    public static final String GET_POINT_SQL = "SELECT point FROM members WHERE id = ?";
+    public static final String INSERT_SQL = "INSERT INTO point_ledger (member_id, type, amount, balance_after, idempotency_key, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    public static final String FIND_BY_IDEMPOTENCY_KEY_SQL = "SELECT id, type, amount, balance_after, created_at FROM point_ledger WHERE member_id = ? AND idempotency_key = ?";
+    public static final String FIND_HISTORY_SQL = "SELECT id, type, amount, balance_after, created_at FROM point_ledger WHERE member_id = ? ORDER BY id DESC LIMIT ?";
+    public static final String FIND_HISTORY_AFTER_SQL = "SELECT id, type, amount, balance_after, created_at FROM point_ledger WHERE member_id = ? AND id < ? ORDER BY id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<PointLedgerDto> rowMapper = (rs, rowNum) -> new PointLedgerDto(
+            rs.getLong("id"),
+            rs.getString("type"),
+            rs.getInt("amount"),
+            rs.getInt("balance_after"),
+            rs.getString("created_at")
+    );
+
+    // 잔액을 한 문장으로 증감 (읽고-더하고-쓰는 사이에 다른 요청이 끼어들 수 없음)
+    // 잔액이 음수가 되는 경우 0건 반영
+    public int addPoint(int memberId, int amount) {
+        return jdbcTemplate.update(ADD_POINT_SQL, amount, memberId, amount);
+    }
+
+    // 잔액을 지정한 값으로 설정하기 위해 행 잠금 후 현재 잔액 조회
+    public Integer getPointForUpdate(int memberId) {
+        return jdbcTemplate.queryForObject(GET_POINT_FOR_UPDATE_SQL, Integer.class, memberId);
+    }
+
+    // 같은 트랜잭션에서 갱신한 직후 호출하므로 갱신 후 잔액이 보인다
+    public Integer getPoint(int memberId) {
+        return jdbcTemplate.queryForObject(GET_POINT_SQL, Integer.class, memberId);
+    }
+
+    // 생성된 원장 id 반환
+    public long insert(int memberId, String type, int amount, int balanceAfter, String idempotencyKey, String createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            ps.setInt(1, memberId);
+            ps.setString(2, type);
+            ps.setInt(3, amount);
+            ps.setInt(4, balanceAfter);
+            ps.setString(5, idempotencyKey);
+            ps.setString(6, createdAt);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    public PointLedgerDto findByIdempotencyKey(int memberId, String idempotencyKey) {
+        List<PointLedgerDto> result = jdbcTemplate.query(FIND_BY_IDEMPOTENCY_KEY_SQL, rowMapper, memberId, idempotencyKey);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    // (member_id, id) 인덱스를 타는 키셋 페이지네이션
+    public List<PointLedgerDto> findHistory(int memberId, Long cursor, int size) {
+        if (cursor == null) {
+            return jdbcTemplate.query(FIND_HISTORY_SQL, rowMapper, memberId, size);
+        }
+        return jdbcTemplate.query(FIND_HISTORY_AFTER_SQL, rowMapper, memberId, cursor, size);
+    }
+}
@@ -1,36 +1,54 @@
 package com.barobaedal.barobaedal.members.service;
 
 import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.password.PasswordHasher;
 import com.barobaedal.barobaedal.members.dto.LoginResponseDto;
+import com.barobaedal.barobaedal.members.dto.MemberCredentialDto;
 import com.barobaedal.barobaedal.members.dto.MemberDto;
 import com.barobaedal.barobaedal.members.dto.RegisterRequestDto;
 import com.barobaedal.barobaedal.members.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
     private final MemberRepository memberRepository;
     private final JwtUtil jwtUtil;
+    private final PasswordHasher passwordHasher;
 
     public void register(RegisterRequestDto dto) {
         if (memberRepository.existsByUserid(dto.getUserid())) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
+        dto.setUserpw(passwordHasher.hash(dto.getUserpw()).join());
         memberRepository.insertMember(dto);
     }
 
-
-    // generateToken() 파라미터 추가 가능? role
+    // 조회 한 번 + 해시 풀에서 비밀번호 검증. 실패하면 null
+    // 해시 풀에서는 검증만 하고, DB 쓰기와 토큰 발급은 요청 스레드에서 (격벽/쿼리 예산 안에서 실행)
     public LoginResponseDto login(String userid, String userpw) {
-        boolean valid = memberRepository.checkLogin(userid, userpw);
-        if (valid) {
-            String token = jwtUtil.generateToken(userid);
-            return new LoginResponseDto(token, null, null);
-        } else {
-            return new LoginResponseDto(null, null, null);
+        MemberCredentialDto credential = userid != null ? memberRepository.findCredential(userid) : null;
+        String stored = credential != null ? credential.getPasswordHash() : null;
+        PasswordHasher.Verification result = passwordHasher.verify(userpw, stored).join();
+        if (!result.matched()) {
+            return null;
+        }
+        if (result.upgradedHash() != null) {
+            upgradePassword(credential, stored, result.upgradedHash());
+        }
+        return new LoginResponseDto(jwtUtil.generateToken(userid), credential.getStoreId(), credential.getRole());
+    }
+
+    // 평문이나 낮은 cost 로 저장된 비밀번호를 새 해시로 교체. 실패해도 로그인은 성공시키고 다음 로그인에 다시 시도
+    private void upgradePassword(MemberCredentialDto credential, String stored, String upgradedHash) {
+        try {
+            memberRepository.upgradePassword(credential.getId(), stored, upgradedHash);
+        } catch (RuntimeException e) {
+            log.warn("[login] 비밀번호 해시 갱신 실패 member={}", credential.getId(), e);
         }
     }
 
@@ -49,10 +67,6 @@ public class MemberService {
         return memberRepository.getMemberId(userid);
     }
 
-    public void updatePoint(String userid, int point) {
-        memberRepository.updatePoint(userid, point);
-    }
-
     public Integer getMemberPoint(String userid) {
         return memberRepository.getPoint(userid);
     }
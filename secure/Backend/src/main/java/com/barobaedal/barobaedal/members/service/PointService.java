@@ -0,0 +1,106 @@
+package com.barobaedal.barobaedal.members.service;
+
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.exception.InsufficientPointException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.barobaedal.barobaedal.members.dto.PointHistoryResponse;
+import com.barobaedal.barobaedal.members.dto.PointLedgerDto;
+import com.barobaedal.barobaedal.members.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 포인트 잔액(members.point)은 원장(point_ledger)과 같은 트랜잭션에서만 바뀐다.
+@Service
+@RequiredArgsConstructor
+public class PointService {
+
+    public static final String CHARGE = "CHARGE";
+    public static final String USE = "USE";
+    public static final String ADJUST = "ADJUST";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PointLedgerDto charge(int memberId, int amount, String idempotencyKey) {
+        if (amount <= 0) {
+            throw new BaseException(MessageCode.POINT_INVALID_AMOUNT.getMessage());
+        }
+        return execute(memberId, idempotencyKey, () -> applyInTransaction(memberId, CHARGE, amount, idempotencyKey));
+    }
+
+    public PointLedgerDto use(int memberId, int amount, String idempotencyKey) {
+        if (amount <= 0) {
+            throw new BaseException(MessageCode.POINT_INVALID_AMOUNT.getMessage());
+        }
+        return execute(memberId, idempotencyKey, () -> applyInTransaction(memberId, USE, -amount, idempotencyKey));
+    }
+
+    // 잔액을 지정한 값으로 맞추고 차액을 원장에 남긴다
+    public PointLedgerDto setBalance(int memberId, int balance, String idempotencyKey) {
+        if (balance < 0) {
+            throw new BaseException(MessageCode.POINT_INVALID_AMOUNT.getMessage());
+        }
+        return execute(memberId, idempotencyKey, () -> {
+            int current = pointLedgerRepository.getPointForUpdate(memberId);
+            return applyInTransaction(memberId, ADJUST, balance - current, idempotencyKey);
+        });
+    }
+
+    // 이미 열린 트랜잭션 안에서 잔액 증감 + 원장 기록 (주문 결제처럼 다른 쓰기와 묶을 때 사용)
+    public PointLedgerDto applyInTransaction(int memberId, String type, int amount, String idempotencyKey) {
+        if (pointLedgerRepository.addPoint(memberId, amount) == 0) {
+            throw new InsufficientPointException();
+        }
+        int balance = pointLedgerRepository.getPoint(memberId);
+        String createdAt = now();
+        long id = pointLedgerRepository.insert(memberId, type, amount, balance, idempotencyKey, createdAt);
+        return new PointLedgerDto(id, type, amount, balance, createdAt);
+    }
+
+    public PointHistoryResponse getHistory(int memberId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<PointLedgerDto> rows = pointLedgerRepository.findHistory(memberId, cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new PointHistoryResponse(rows, null);
+        }
+        List<PointLedgerDto> page = rows.subList(0, pageSize);
+        return new PointHistoryResponse(page, page.get(pageSize - 1).getId());
+    }
+
+    // 같은 멱등 키로 다시 들어온 요청은 처음 결과를 그대로 돌려준다.
+    // 두 요청이 동시에 들어와 유니크 키에서 부딪히면 진 쪽은 롤백 후 먼저 커밋된 결과를 읽는다.
+    private PointLedgerDto execute(int memberId, String idempotencyKey, Supplier<PointLedgerDto> work) {
+        if (idempotencyKey != null) {
+            PointLedgerDto replay = pointLedgerRepository.findByIdempotencyKey(memberId, idempotencyKey);
+            if (replay != null) return replay;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (idempotencyKey == null) throw e;
+                PointLedgerDto replay = pointLedgerRepository.findByIdempotencyKey(memberId, idempotencyKey);
+                if (replay != null) return replay;
+                if (attempt == MAX_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+}
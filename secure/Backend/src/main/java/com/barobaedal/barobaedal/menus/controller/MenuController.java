@@ -1,7 +1,7 @@
 package com.barobaedal.barobaedal.menus.controller;
 
 import com.barobaedal.barobaedal.common.FileStorageService;
-import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.auth.LoginUser;
 import com.barobaedal.barobaedal.common.response.CommonResponse;
 import com.barobaedal.barobaedal.common.response.ResponseType;
 import com.barobaedal.barobaedal.members.dto.MemberDto;
@@ -24,14 +24,12 @@ public class MenuController {
     private final MemberService memberService;
     private final StoreService storeService;
     private final FileStorageService fileStorageService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping("/create")
     public CommonResponse<Object> create(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @ModelAttribute MenuDto menuDto
     ) throws IOException {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         if (!memberService.getMemberRole(userid).equals("OWNER")) {
             return CommonResponse.builder()
@@ -64,10 +62,8 @@ public class MenuController {
 
     @GetMapping("/info/{id}")
     public CommonResponse<Object> getById(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int id
     ) {
-        jwtUtil.auth(authHeader);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(menuService.getMenu(id))
@@ -77,10 +73,8 @@ public class MenuController {
 
     @GetMapping("/store/{storeId}")
     public CommonResponse<Object> getByStore(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int storeId
     ) {
-        jwtUtil.auth(authHeader);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(menuService.getMenusByStore(storeId))
@@ -90,11 +84,10 @@ public class MenuController {
 
     @PostMapping("/info/{id}")
     public CommonResponse<Object> update(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @PathVariable int id,
             @ModelAttribute MenuDto menu
     ) throws IOException {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         if (!memberService.getMemberRole(userid).equals("OWNER")) {
             return CommonResponse.builder()
@@ -128,10 +121,9 @@ public class MenuController {
 
     @GetMapping("/delete/{id}")
     public CommonResponse<Object> delete(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @PathVariable int id
     ) {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         if (!memberService.getMemberRole(userid).equals("OWNER")) {
             return CommonResponse.builder()
@@ -11,6 +11,13 @@ import java.util.List;
 @Repository
 public class MenuRepository {
 
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO menus (store_id, title, content, price, thumbnail) VALUES (?, ?, ?, ?, ?)";
+    public static final String FIND_BY_ID_SQL = "SELECT * FROM menus WHERE id = ?";
+    public static final String FIND_ALL_BY_STORE_ID_SQL = "SELECT * FROM menus WHERE store_id = ?";
+    public static final String UPDATE_SQL = "UPDATE menus SET title=?, content=?, price=?, thumbnail=? WHERE id=?";
+    public static final String DELETE_SQL = "DELETE FROM menus WHERE id=?";
+
     private final JdbcTemplate jdbcTemplate;
 
     public MenuRepository(JdbcTemplate jdbcTemplate) {
@@ -27,8 +34,7 @@ public class MenuRepository {
             .build();
 
     public int insert(MenuDto menu) {
-        String sql = "INSERT INTO menus (store_id, title, content, price, thumbnail) VALUES (?, ?, ?, ?, ?)";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(INSERT_SQL,
                 menu.getStoreId(),
                 menu.getTitle(),
                 menu.getContent(),
@@ -37,26 +43,23 @@ public class MenuRepository {
     }
 
     public MenuDto findById(int id) {
-        String sql = "SELECT * FROM menus WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, menuMapper, id);
+            return jdbcTemplate.queryForObject(FIND_BY_ID_SQL, menuMapper, id);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
     }
 
     public List<MenuDto> findAllByStoreId(int storeId) {
-        String sql = "SELECT * FROM menus WHERE store_id = ?";
         try {
-            return jdbcTemplate.query(sql, menuMapper, storeId);
+            return jdbcTemplate.query(FIND_ALL_BY_STORE_ID_SQL, menuMapper, storeId);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
     }
 
     public int update(int id, MenuDto menu) {
-        String sql = "UPDATE menus SET title=?, content=?, price=?, thumbnail=? WHERE id=?";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(UPDATE_SQL,
                 menu.getTitle(),
                 menu.getContent(),
                 menu.getPrice(),
@@ -65,7 +68,6 @@ public class MenuRepository {
     }
 
     public int delete(int id) {
-        String sql = "DELETE FROM menus WHERE id=?";
-        return jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(DELETE_SQL, id);
     }
 }
\ No newline at end of file
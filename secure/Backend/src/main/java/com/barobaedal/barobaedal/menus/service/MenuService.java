@@ -1,5 +1,7 @@
 package com.barobaedal.barobaedal.menus.service;
 
+import com.barobaedal.barobaedal.common.invalidation.InvalidationBus;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
 import com.barobaedal.barobaedal.menus.dto.MenuDto;
 import com.barobaedal.barobaedal.menus.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +14,11 @@ import java.util.List;
 public class MenuService {
 
     private final MenuRepository menuRepository;
+    private final InvalidationBus invalidationBus;
 
     public void createMenu(MenuDto menu) {
         menuRepository.insert(menu);
+        invalidationBus.publish(InvalidationEvent.MENU, InvalidationEvent.ALL);
     }
 
     public MenuDto getMenu(int id) {
@@ -27,9 +31,11 @@ public class MenuService {
 
     public void updateMenu(int id, MenuDto menu) {
         menuRepository.update(id, menu);
+        invalidationBus.publish(InvalidationEvent.MENU, id);
     }
 
     public void deleteMenu(int id) {
         menuRepository.delete(id);
+        invalidationBus.publish(InvalidationEvent.MENU, id);
     }
 }
\ No newline at end of file
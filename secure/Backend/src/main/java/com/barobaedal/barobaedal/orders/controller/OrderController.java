@@ -1,11 +1,12 @@
 package com.barobaedal.barobaedal.orders.controller;
 
-import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.auth.LoginUser;
 import com.barobaedal.barobaedal.common.response.CommonResponse;
 import com.barobaedal.barobaedal.common.response.ResponseType;
 import com.barobaedal.barobaedal.members.service.MemberService;
 import com.barobaedal.barobaedal.menus.dto.MenuDto;
 import com.barobaedal.barobaedal.menus.service.MenuService;
+import com.barobaedal.barobaedal.orders.dto.CheckoutResponse;
 import com.barobaedal.barobaedal.orders.dto.OrderDayRequest;
 import com.barobaedal.barobaedal.orders.dto.OrderDto;
 import com.barobaedal.barobaedal.orders.dto.SalesRequest;
@@ -29,15 +30,13 @@ public class OrderController {
     private final MemberService memberService;
     private final StoreService storeService;
     private final MenuService menuService;
-    private final JwtUtil jwtUtil;
 
     // CREATE
     @PostMapping("/create")
     public CommonResponse<Object> create(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @RequestBody OrderDto order
     ) {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         MenuDto menuDto = menuService.getMenu(order.getMenuId());
         StoreDto storeDto = storeService.getStore(order.getStoreId());
@@ -60,12 +59,25 @@ public class OrderController {
                 .build();
     }
 
+    // 포인트 결제 + 주문 생성 (포인트 조회/차감/주문 3번의 호출을 한 번으로)
+    @PostMapping("/checkout")
+    public CommonResponse<Object> checkout(
+            @LoginUser String userid,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderDto order
+    ) {
+        Integer memberId = memberService.getMemberId(userid);
+        CheckoutResponse response = orderService.checkout(memberId, order, idempotencyKey);
+        return CommonResponse.builder()
+                .responseType(ResponseType.SUCCESS)
+                .data(response)
+                .message("결제 및 주문 완료")
+                .build();
+    }
+
     // READ ALL
     @GetMapping("/list")
-    public CommonResponse<Object> list(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
-    ) {
-        jwtUtil.auth(authHeader);
+    public CommonResponse<Object> list() {
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(orderService.getAllOrders())
@@ -76,10 +88,8 @@ public class OrderController {
     // READ ONE
     @GetMapping("/{id}")
     public CommonResponse<Object> get(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int id
     ) {
-        jwtUtil.auth(authHeader);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(orderService.getOrderById(id))
@@ -90,9 +100,8 @@ public class OrderController {
     // 특정 사용자의 주문들
     @GetMapping("/member")
     public CommonResponse<Object> getByMember(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
+            @LoginUser String userid
     ) {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
@@ -104,10 +113,8 @@ public class OrderController {
     // 특정 상점의 주문들
     @GetMapping("/store/{id}")
     public CommonResponse<Object> getByStore(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int id
     ) {
-        jwtUtil.auth(authHeader);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(orderService.getOrdersByStoreId(id))
@@ -117,10 +124,9 @@ public class OrderController {
 
     @PostMapping("/day")
     public CommonResponse<Object> getByDay(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @RequestBody OrderDayRequest day
     ) {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         Integer storeId = storeService.findStoreIdByMemberId(memberId);
         return CommonResponse.builder()
@@ -133,7 +139,6 @@ public class OrderController {
     // UPDATE
     @PostMapping("/update")
     public CommonResponse<Object> update(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestBody OrderDto order
     ) {
         // 검증로직 필요함
@@ -148,7 +153,6 @@ public class OrderController {
     // DELETE
     @GetMapping("/delete/{id}")
     public CommonResponse<Object> delete(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int id
     ) {
         orderService.deleteOrder(id);
@@ -161,10 +165,9 @@ public class OrderController {
 
     @PostMapping("/sales")
     public CommonResponse<Object> sales(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @RequestBody SalesRequest salesRequest
     ) {
-        String userid = jwtUtil.auth(authHeader);
         if (!memberService.getMemberRole(userid).equals("ADMIN")) {
             return CommonResponse.builder()
                     .responseType(ResponseType.ERROR)
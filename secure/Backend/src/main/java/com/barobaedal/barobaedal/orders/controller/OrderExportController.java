@@ -0,0 +1,75 @@
+package com.barobaedal.barobaedal.orders.controller;
+
+import com.barobaedal.barobaedal.common.auth.LoginUser;
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.export.ExportFormat;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.barobaedal.barobaedal.members.service.MemberService;
+import com.barobaedal.barobaedal.orders.service.OrderExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 관리자용 주문/매출 파일 내보내기 (CSV 또는 NDJSON, gzip=true 이면 .gz 파일)
+// 예) GET /api/order/export/orders?from=2025-01-01&to=2025-01-31&format=ndjson&gzip=true
+@RestController
+@RequestMapping("/api/order/export")
+@RequiredArgsConstructor
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+    private final MemberService memberService;
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> orders(
+            @LoginUser String userid,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        checkAdmin(userid);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = orderExportService.exportOrders(from, to, exportFormat, gzip);
+        return download("orders_" + from + "_" + to, exportFormat, gzip, body);
+    }
+
+    // 상점/월/메뉴별 매출 (storeId 를 생략하면 전체 상점)
+    @GetMapping("/sales")
+    public ResponseEntity<StreamingResponseBody> sales(
+            @LoginUser String userid,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) Integer storeId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        checkAdmin(userid);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = orderExportService.exportSales(from, to, storeId, exportFormat, gzip);
+        String fileName = "sales_" + (storeId != null ? storeId + "_" : "") + from + "_" + to;
+        return download(fileName, exportFormat, gzip, body);
+    }
+
+    private void checkAdmin(String userid) {
+        if (!"ADMIN".equals(memberService.getMemberRole(userid))) {
+            throw new BaseException(MessageCode.COMMON_FORBIDDEN.getMessage());
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String baseName, ExportFormat format, boolean gzip,
+                                                                  StreamingResponseBody body) {
+        String fileName = baseName + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType());
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,12 @@
+package com.barobaedal.barobaedal.orders.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CheckoutResponse {
+    private Integer orderId;
+    private Integer totalPrice;
+    private Integer point; // 결제 후 포인트 잔액
+}
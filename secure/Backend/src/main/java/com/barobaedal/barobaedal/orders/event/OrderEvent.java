@@ -0,0 +1,8 @@
+package com.barobaedal.barobaedal.orders.event;
+
+// order_events 한 행. attempts 는 이번 전달을 포함한 시도 횟수
+public record OrderEvent(long id, String type, int orderId, int storeId, int memberId, int menuId,
+                         int quantity, int totalPrice, long createdAt, int attempts) {
+
+    public static final String CREATED = "ORDER_CREATED";
+}
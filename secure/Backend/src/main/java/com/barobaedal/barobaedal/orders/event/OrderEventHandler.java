@@ -0,0 +1,9 @@
+package com.barobaedal.barobaedal.orders.event;
+
+// 주문 이벤트를 받는 후속 작업 (사장님 알림, 매출 집계 등). OrderEventRelay 스레드에서 호출된다.
+// 최소 한 번 전달이므로 같은 이벤트(id)를 다시 받아도 결과가 같아야 하고,
+// 예외를 던지면 이 이벤트는 잠시 뒤 모든 핸들러에 다시 전달된다. 오래 걸리는 일은 자체 풀로 넘길 것
+public interface OrderEventHandler {
+
+    void handle(OrderEvent event);
+}
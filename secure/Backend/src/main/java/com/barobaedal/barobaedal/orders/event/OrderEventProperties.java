@@ -0,0 +1,33 @@
+package com.barobaedal.barobaedal.orders.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.order-events")
+public class OrderEventProperties {
+
+    private boolean enabled = true;
+
+    // 한 번에 가져오는 이벤트 수
+    private int batchSize = 100;
+
+    // 처리할 이벤트가 없을 때 다시 확인하는 주기 (이 인스턴스에서 커밋된 주문은 바로 깨움)
+    private long pollIntervalMs = 1_000;
+
+    // 가져간 이벤트를 다른 인스턴스가 다시 가져가지 않는 시간. 처리 중 죽으면 이 시간이 지나서 재전달
+    private long leaseMs = 30_000;
+
+    // 실패 시 재시도 간격 (retryBackoffMs * 2^(시도-1), 최대 maxRetryBackoffMs), 이 횟수를 넘으면 FAILED 로 남김
+    private int maxAttempts = 10;
+    private long retryBackoffMs = 1_000;
+    private long maxRetryBackoffMs = 300_000;
+
+    // 처리 완료(DONE) 행 보관 기간
+    private Duration retention = Duration.ofDays(7);
+    private long purgeIntervalMs = 3_600_000;
+}
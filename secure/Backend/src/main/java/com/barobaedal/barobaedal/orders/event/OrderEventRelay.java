@@ -0,0 +1,169 @@
+package com.barobaedal.barobaedal.orders.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 주문과 같은 트랜잭션으로 기록된 order_events 를 전용 스레드 하나가 묶음으로 가져가 핸들러에 전달한다.
+// 가져가기는 짧은 트랜잭션(SELECT ... FOR UPDATE SKIP LOCKED + 임대 시각 갱신)으로 끝내고 커넥션을 돌려준 뒤 전달하므로,
+// 여러 인스턴스가 같이 돌아도 같은 이벤트를 동시에 처리하지 않고 핸들러 실행 동안 DB 잠금/커넥션을 붙잡지 않는다.
+// 전달 도중 죽으면 임대(leaseMs)가 끝난 뒤 다른 인스턴스가 다시 가져간다 (최소 한 번 전달, 인스턴스 간 순서는 보장하지 않음).
+@Slf4j
+@Component
+public class OrderEventRelay {
+
+    private final OrderEventProperties properties;
+    private final OrderEventRepository orderEventRepository;
+    private final List<OrderEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread thread;
+
+    private final Counter dispatched;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer lag;
+
+    public OrderEventRelay(OrderEventProperties properties,
+                           OrderEventRepository orderEventRepository,
+                           List<OrderEventHandler> handlers,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.orderEventRepository = orderEventRepository;
+        this.handlers = handlers;
+        this.transactionTemplate = transactionTemplate;
+        this.dispatched = Counter.builder("order.events.dispatched").register(meterRegistry);
+        this.retried = Counter.builder("order.events.retried").register(meterRegistry);
+        this.failed = Counter.builder("order.events.failed").register(meterRegistry);
+        // 주문 커밋부터 핸들러 전달까지
+        this.lag = Timer.builder("order.events.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) return;
+        running = true;
+        thread = new Thread(this::run, "order-event-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        wakeUps.release();
+        if (thread != null) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // 주문 트랜잭션 안에서 호출하면 커밋 직후에 relay 를 깨움 (폴링 주기를 기다리지 않음)
+    public void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.order-events.purge-interval-ms:3600000}")
+    public void purgeDone() {
+        int deleted = orderEventRepository.deleteDoneBefore(System.currentTimeMillis() - properties.getRetention().toMillis());
+        if (deleted > 0) {
+            log.info("[order-events] 처리 완료 이벤트 {}건 삭제", deleted);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            int claimed = 0;
+            try {
+                claimed = relayBatch();
+            } catch (RuntimeException e) {
+                // DB 장애 등: 다음 주기에 다시 시도
+                log.warn("[order-events] 이벤트 가져오기 실패", e);
+            }
+            // 꽉 찬 묶음이면 밀린 이벤트가 더 있으므로 바로 다음 묶음
+            if (claimed < properties.getBatchSize()) {
+                awaitWakeUp();
+            }
+        }
+    }
+
+    // 가져간 이벤트 수
+    int relayBatch() {
+        long now = System.currentTimeMillis();
+        List<OrderEvent> batch = transactionTemplate.execute(status ->
+                orderEventRepository.claim(properties.getBatchSize(), now, now + properties.getLeaseMs()));
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<Long> done = new ArrayList<>(batch.size());
+        for (OrderEvent event : batch) {
+            try {
+                for (OrderEventHandler handler : handlers) {
+                    handler.handle(event);
+                }
+                done.add(event.id());
+                dispatched.increment();
+                lag.record(Math.max(0, System.currentTimeMillis() - event.createdAt()), TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                fail(event, e);
+            }
+        }
+        orderEventRepository.markDone(done, System.currentTimeMillis());
+        return batch.size();
+    }
+
+    private void fail(OrderEvent event, RuntimeException e) {
+        long now = System.currentTimeMillis();
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (event.attempts() >= properties.getMaxAttempts()) {
+            failed.increment();
+            log.error("[order-events] {}번 이벤트 {}회 실패, FAILED 로 남김 (order {})", event.id(), event.attempts(), event.orderId(), e);
+            orderEventRepository.markFailed(event.id(), now, error);
+            return;
+        }
+        retried.increment();
+        long backoff = Math.min(properties.getMaxRetryBackoffMs(),
+                properties.getRetryBackoffMs() << Math.min(event.attempts() - 1, 20));
+        log.warn("[order-events] {}번 이벤트 처리 실패 ({}회), {}ms 뒤 재시도: {}", event.id(), event.attempts(), backoff, error);
+        orderEventRepository.retryAt(event.id(), now + backoff, error);
+    }
+
+    private void awaitWakeUp() {
+        try {
+            wakeUps.tryAcquire(properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+            wakeUps.drainPermits();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.barobaedal.barobaedal.orders.event;
+
+import com.barobaedal.barobaedal.orders.dto.OrderDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderEventRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO order_events (event_type, order_id, store_id, member_id, menu_id, quantity, total_price, " +
+            "status, attempts, available_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+    public static final String CLAIM_SQL = "SELECT id, event_type, order_id, store_id, member_id, menu_id, quantity, total_price, created_at, attempts " +
+            "FROM order_events WHERE status = 'PENDING' AND available_at <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    public static final String EXTEND_LEASE_SQL = "UPDATE order_events SET attempts = attempts + 1, available_at = ? WHERE id = ?";
+    public static final String MARK_DONE_SQL = "UPDATE order_events SET status = 'DONE', processed_at = ? WHERE id = ?";
+    public static final String RETRY_AT_SQL = "UPDATE order_events SET available_at = ?, last_error = ? WHERE id = ?";
+    public static final String MARK_FAILED_SQL = "UPDATE order_events SET status = 'FAILED', processed_at = ?, last_error = ? WHERE id = ?";
+    public static final String DELETE_DONE_BEFORE_SQL = "DELETE FROM order_events WHERE status = 'DONE' AND processed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 가져갈 때 attempts 를 1 올리므로 읽은 값 + 1
+    private final RowMapper<OrderEvent> claimedMapper = (rs, rowNum) -> new OrderEvent(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getInt("order_id"),
+            rs.getInt("store_id"),
+            rs.getInt("member_id"),
+            rs.getInt("menu_id"),
+            rs.getInt("quantity"),
+            rs.getInt("total_price"),
+            rs.getLong("created_at"),
+            rs.getInt("attempts") + 1);
+
+    // 주문 저장과 같은 트랜잭션에서 호출
+    public void insert(String type, int orderId, OrderDto order, long now) {
+        jdbcTemplate.update(INSERT_SQL, type, orderId, order.getStoreId(), order.getMemberId(), order.getMenuId(),
+                order.getQuantity(), order.getTotalPrice(), now, now);
+    }
+
+    // 트랜잭션 안에서 호출. 다른 인스턴스가 잠근 행은 건너뛰고 (SKIP LOCKED), 가져간 행은 leaseUntil 까지 숨김
+    public List<OrderEvent> claim(int limit, long now, long leaseUntil) {
+        List<OrderEvent> events = jdbcTemplate.query(CLAIM_SQL, claimedMapper, now, limit);
+        if (!events.isEmpty()) {
+            jdbcTemplate.batchUpdate(EXTEND_LEASE_SQL,
+                    events.stream().map(event -> new Object[]{leaseUntil, event.id()}).toList());
+        }
+        return events;
+    }
+
+    public void markDone(List<Long> ids, long now) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate(MARK_DONE_SQL,
+                ids.stream().map(id -> new Object[]{now, id}).toList());
+    }
+
+    public void retryAt(long id, long availableAt, String error) {
+        jdbcTemplate.update(RETRY_AT_SQL, availableAt, truncate(error), id);
+    }
+
+    public void markFailed(long id, long now, String error) {
+        jdbcTemplate.update(MARK_FAILED_SQL, now, truncate(error), id);
+    }
+
+    public int deleteDoneBefore(long processedAt) {
+        return jdbcTemplate.update(DELETE_DONE_BEFORE_SQL, processedAt);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,21 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 기본 채널: 알림 내용을 로그로 남김 (실제 푸시/문자 연동 전까지 사용)
+@Slf4j
+@Component
+public class LoggingNotificationChannel implements NotificationChannel {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(OwnerNotification notification) {
+        log.info("[notification] store {}: {} (주문 {}, 합계 {}원)", notification.storeId(), notification.message(),
+                notification.orderIds(), notification.totalPrice());
+    }
+}
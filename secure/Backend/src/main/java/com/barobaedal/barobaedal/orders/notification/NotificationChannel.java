@@ -0,0 +1,10 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+// 사장님 알림을 실제로 보내는 방식 (로그, 웹훅, 푸시 등). 알림 워커 스레드에서 호출되며
+// 같은 상점의 알림은 순서대로 한 번에 하나씩 온다. 실패는 예외로 알리면 되고 재시도는 하지 않음
+public interface NotificationChannel {
+
+    String name();
+
+    void send(OwnerNotification notification) throws Exception;
+}
@@ -0,0 +1,32 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProperties {
+
+    private boolean enabled = true;
+
+    // 알림을 보내는 워커 수 (상점별로는 한 번에 하나씩만 보냄)
+    private int poolSize = 4;
+
+    // 상점의 첫 주문부터 이 시간 동안 들어온 주문을 한 알림으로 묶음
+    private long coalesceWindowMs = 1_000;
+
+    // 알림 대기 중인 상점 수 상한. 넘으면 새 상점의 알림은 버림 (이미 대기 중인 상점은 건수만 합쳐짐)
+    private int maxPendingStores = 10_000;
+
+    // 알림 한 건에 담는 주문 id 수
+    private int maxOrderIds = 10;
+
+    // 아웃박스 재전달로 같은 주문 이벤트가 두 번 와도 한 번만 세도록 기억해 두는 최근 이벤트 수
+    private int recentEventIds = 10_000;
+
+    // 설정하면 WebhookNotificationChannel 이 이 주소로 POST (JSON)
+    private String webhookUrl;
+    private long webhookTimeoutMs = 3_000;
+}
@@ -0,0 +1,13 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import java.util.List;
+
+// 한 상점에 짧은 시간 동안 들어온 주문을 묶은 알림 한 건.
+// orderIds 는 앞에서부터 최대 app.notification.max-order-ids 개만 담고, orderCount 가 실제 건수
+public record OwnerNotification(int storeId, int orderCount, List<Integer> orderIds, long totalPrice,
+                                long firstCreatedAt, long lastCreatedAt) {
+
+    public String message() {
+        return orderCount == 1 ? "새 주문이 들어왔습니다." : "새 주문 " + orderCount + "건이 들어왔습니다.";
+    }
+}
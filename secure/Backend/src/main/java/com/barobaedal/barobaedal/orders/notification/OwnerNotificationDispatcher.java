@@ -0,0 +1,206 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import com.barobaedal.barobaedal.orders.event.OrderEvent;
+import com.barobaedal.barobaedal.orders.event.OrderEventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 주문 생성 이벤트를 받아 사장님 알림을 보낸다. 주문 요청/relay 스레드는 상점별 대기 건수만 올리고 바로 돌아가고,
+// 실제 전송은 크기가 정해진 워커 풀에서 한다.
+// - 상점별로 첫 주문부터 coalesceWindowMs 동안 들어온 주문은 "새 주문 N건" 한 번으로 묶고,
+//   전송 중에 들어온 주문은 전송이 끝난 뒤 다음 알림으로 보내 상점 안에서는 순서대로 한 번에 하나씩 나간다.
+// - 상점마다 대기 상태는 건수/합계와 주문 id 몇 개뿐이라 주문이 몰려도 메모리가 늘지 않는다.
+//   대기 중인 상점 수가 maxPendingStores 에 닿으면 새 상점의 알림은 버리고 세기만 한다 (요청을 막지 않음).
+// 알림은 주문 처리의 일부가 아니므로 전송 실패를 재시도하지 않고, 예외도 relay 로 올리지 않는다.
+@Slf4j
+@Component
+public class OwnerNotificationDispatcher implements OrderEventHandler {
+
+    private final NotificationProperties properties;
+    private final List<NotificationChannel> channels;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final ConcurrentHashMap<Integer, Pending> pending = new ConcurrentHashMap<>();
+
+    // 아웃박스 재전달로 같은 이벤트가 다시 와도 두 번 세지 않도록 최근 이벤트 id 를 기억
+    private final Map<Long, Boolean> recentEvents;
+
+    private final Counter received;
+    private final Counter coalesced;
+    private final Counter dropped;
+    private final Counter duplicates;
+    private final Map<String, Counter> sent = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failed = new ConcurrentHashMap<>();
+
+    public OwnerNotificationDispatcher(NotificationProperties properties,
+                                       List<NotificationChannel> channels,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.channels = channels;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("owner-notification-");
+        threadFactory.setDaemon(true);
+        this.executor = new ScheduledThreadPoolExecutor(Math.max(1, properties.getPoolSize()), threadFactory);
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        int recentLimit = properties.getRecentEventIds();
+        this.recentEvents = Collections.synchronizedMap(new LinkedHashMap<Long, Boolean>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > recentLimit;
+            }
+        });
+
+        this.received = Counter.builder("notification.received").register(meterRegistry);
+        this.coalesced = Counter.builder("notification.coalesced").register(meterRegistry);
+        this.dropped = Counter.builder("notification.dropped").register(meterRegistry);
+        this.duplicates = Counter.builder("notification.duplicates").register(meterRegistry);
+        for (NotificationChannel channel : channels) {
+            sent.put(channel.name(), Counter.builder("notification.sent").tag("channel", channel.name()).register(meterRegistry));
+            failed.put(channel.name(), Counter.builder("notification.failed").tag("channel", channel.name()).register(meterRegistry));
+        }
+        Gauge.builder("notification.pending.stores", pending, Map::size).register(meterRegistry);
+        Gauge.builder("notification.active", executor, ScheduledThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        if (!properties.isEnabled() || !OrderEvent.CREATED.equals(event.type())) return;
+        submit(event);
+    }
+
+    // 대기열에 넣었거나 같은 상점 알림에 합쳤으면 true, 넘쳐서 버렸으면 false. 블로킹하지 않음
+    public boolean submit(OrderEvent event) {
+        if (recentEvents.put(event.id(), Boolean.TRUE) != null) {
+            duplicates.increment();
+            return true;
+        }
+        received.increment();
+
+        boolean[] schedule = new boolean[1];
+        Pending merged = pending.compute(event.storeId(), (storeId, current) -> {
+            if (current == null) {
+                if (pending.size() >= properties.getMaxPendingStores()) return null;
+                current = new Pending();
+            } else {
+                coalesced.increment();
+            }
+            current.add(event, properties.getMaxOrderIds());
+            if (!current.scheduled) {
+                current.scheduled = true;
+                schedule[0] = true;
+            }
+            return current;
+        });
+
+        if (merged == null) {
+            dropped.increment();
+            return false;
+        }
+        if (schedule[0]) {
+            try {
+                executor.schedule(() -> flush(event.storeId()), properties.getCoalesceWindowMs(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                pending.remove(event.storeId());
+                dropped.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 워커 스레드: 모인 주문을 알림 하나로 꺼내 보내고, 그 사이 새 주문이 있으면 다음 전송을 예약
+    private void flush(int storeId) {
+        OwnerNotification[] taken = new OwnerNotification[1];
+        pending.computeIfPresent(storeId, (id, current) -> {
+            taken[0] = current.drain(id);
+            return current;
+        });
+
+        if (taken[0] != null) {
+            send(taken[0]);
+        }
+
+        boolean[] reschedule = new boolean[1];
+        pending.computeIfPresent(storeId, (id, current) -> {
+            if (current.count == 0) return null;
+            reschedule[0] = true;
+            return current;
+        });
+        if (reschedule[0]) {
+            executor.schedule(() -> flush(storeId), properties.getCoalesceWindowMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void send(OwnerNotification notification) {
+        for (NotificationChannel channel : channels) {
+            try {
+                channel.send(notification);
+                sent.get(channel.name()).increment();
+            } catch (Exception e) {
+                failed.get(channel.name()).increment();
+                log.warn("[notification] {} 전송 실패 (store {}, {}건): {}", channel.name(), notification.storeId(),
+                        notification.orderCount(), e.toString());
+            }
+        }
+    }
+
+    public int getPendingStores() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 한 상점의 아직 보내지 않은 주문 (pending.compute 안에서만 변경)
+    private static class Pending {
+
+        private int count;
+        private long totalPrice;
+        private final List<Integer> orderIds = new ArrayList<>();
+        private long firstCreatedAt;
+        private long lastCreatedAt;
+        private boolean scheduled;
+
+        void add(OrderEvent event, int maxOrderIds) {
+            if (count == 0) {
+                firstCreatedAt = event.createdAt();
+            }
+            count++;
+            totalPrice += event.totalPrice();
+            lastCreatedAt = Math.max(lastCreatedAt, event.createdAt());
+            if (orderIds.size() < maxOrderIds) {
+                orderIds.add(event.orderId());
+            }
+        }
+
+        // 모인 주문을 알림으로 꺼내고 비움. scheduled 는 flush 가 끝날 때까지 유지해 전송이 겹치지 않게 함
+        OwnerNotification drain(int storeId) {
+            if (count == 0) return null;
+            OwnerNotification notification = new OwnerNotification(storeId, count, List.copyOf(orderIds), totalPrice,
+                    firstCreatedAt, lastCreatedAt);
+            count = 0;
+            totalPrice = 0;
+            orderIds.clear();
+            lastCreatedAt = 0;
+            return notification;
+        }
+    }
+}
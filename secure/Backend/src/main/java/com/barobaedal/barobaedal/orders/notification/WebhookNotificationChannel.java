@@ -0,0 +1,59 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// app.notification.webhook-url 이 있으면 알림을 JSON 으로 POST. 응답이 2xx 가 아니면 실패로 셈
+@Component
+@ConditionalOnProperty(prefix = "app.notification", name = "webhook-url")
+public class WebhookNotificationChannel implements NotificationChannel {
+
+    private final URI uri;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    public WebhookNotificationChannel(NotificationProperties properties, ObjectMapper objectMapper) {
+        this.uri = URI.create(properties.getWebhookUrl());
+        this.timeout = Duration.ofMillis(properties.getWebhookTimeoutMs());
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(OwnerNotification notification) throws IOException, InterruptedException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("storeId", notification.storeId());
+        body.put("message", notification.message());
+        body.put("orderCount", notification.orderCount());
+        body.put("orderIds", notification.orderIds());
+        body.put("totalPrice", notification.totalPrice());
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("webhook 응답 " + response.statusCode());
+        }
+    }
+}
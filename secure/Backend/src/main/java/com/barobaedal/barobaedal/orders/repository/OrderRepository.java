@@ -6,9 +6,14 @@ import com.barobaedal.barobaedal.orders.dto.SalesResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
@@ -18,12 +23,101 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderRepository {
 
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO orders (member_id, store_id, menu_id, quantity, total_price, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    public static final String FIND_MENU_PRICE_SQL = "SELECT price FROM menus WHERE id = ? AND store_id = ?";
+    public static final String UPDATE_SQL = "UPDATE orders SET member_id=?, store_id=?, menu_id=?, quantity=?, total_price=?, created_at=? WHERE id=?";
+    public static final String DELETE_SQL = "DELETE FROM orders WHERE id = ?";
+    public static final String FIND_STORE_NAME_SQL = "SELECT name FROM stores WHERE id = ?";
+
+    // 주문 단건/목록 조회가 공유하는 SELECT ... JOIN 부분
+    private static final String ORDER_SELECT = """
+            SELECT 
+                o.id,
+                o.member_id,
+                o.store_id,
+                o.menu_id,
+                o.quantity,
+                o.total_price,
+                o.created_at,
+                m.name AS customer_name,
+                m.phone AS customer_phone,
+                m.address AS customer_address,
+                s.name AS store_name,
+                s.address AS store_address,
+                mn.title AS menu_title,
+                '선결제' AS payment_method
+            FROM orders o
+            JOIN members m ON o.member_id = m.id
+            JOIN stores s ON o.store_id = s.id
+            JOIN menus mn ON o.menu_id = mn.id
+            """;
+    public static final String FIND_BY_ID_SQL = ORDER_SELECT + """
+            WHERE o.id = ?
+            """;
+    public static final String FIND_BY_MEMBER_ID_SQL = ORDER_SELECT + """
+            WHERE o.member_id = ?
+            ORDER BY o.created_at DESC
+            """;
+    public static final String FIND_BY_STORE_ID_SQL = ORDER_SELECT + """
+            WHERE o.store_id = ?
+            ORDER BY o.created_at DESC
+            """;
+    public static final String FIND_ALL_ORDERS_SQL = ORDER_SELECT + """
+            ORDER BY o.created_at DESC
+            """;
+    public static final String FIND_BY_DATE_RANGE_SQL = ORDER_SELECT + """
+            WHERE o.store_id = ?
+            AND STR_TO_DATE(o.created_at, '%Y-%m-%d %H:%i:%s')
+                BETWEEN STR_TO_DATE(?, '%Y-%m-%d')
+                AND STR_TO_DATE(CONCAT(?, ' 23:59:59'), '%Y-%m-%d %H:%i:%s')
+            ORDER BY o.created_at DESC
+            """;
+    public static final String FIND_SALES_BY_STORE_AND_MONTH_SQL = """
+            SELECT 
+                s.id AS store_id,
+                s.name AS store_name,
+                m.id AS menu_id,
+                m.title AS menu_name,
+                SUM(o.quantity) AS count,           -- 메뉴별 총 판매 수량
+                SUM(o.total_price) AS amount        -- 메뉴별 총 정산금
+            FROM orders o
+            JOIN stores s ON o.store_id = s.id
+            JOIN menus m ON o.menu_id = m.id
+            WHERE s.id = ?
+              AND DATE_FORMAT(STR_TO_DATE(o.created_at, '%Y-%m-%d'), '%Y-%m') = ?
+            GROUP BY s.id, s.name, m.id, m.title
+            ORDER BY amount DESC
+            """;
+    public static final String STREAM_ORDERS_SQL = """
+            SELECT
+                o.id,
+                o.created_at,
+                o.store_id,
+                s.name AS store_name,
+                o.member_id,
+                m.name AS customer_name,
+                o.menu_id,
+                mn.title AS menu_title,
+                o.quantity,
+                o.total_price
+            FROM orders o
+            JOIN members m ON o.member_id = m.id
+            JOIN stores s ON o.store_id = s.id
+            JOIN menus mn ON o.menu_id = mn.id
+            WHERE o.created_at >= ? AND o.created_at < ?
+            ORDER BY o.created_at, o.id
+            """;
+    public static final String STREAM_SALES_SQL = salesSql(false);
+    public static final String STREAM_STORE_SALES_SQL = salesSql(true);
+
     private final JdbcTemplate jdbcTemplate;
 
     // 주문 생성
     public int save(OrderDto order) {
-        String sql = "INSERT INTO orders (member_id, store_id, menu_id, quantity, total_price, created_at) VALUES (?, ?, ?, ?, ?, ?)";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(INSERT_SQL,
                 order.getMemberId(),
                 order.getStoreId(),
                 order.getMenuId(),
@@ -32,32 +126,35 @@ public class OrderRepository {
                 order.getCreatedAt());
     }
 
+    // 주문 생성 후 생성된 주문 id 반환
+    public int saveAndReturnId(OrderDto order) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            ps.setInt(1, order.getMemberId());
+            ps.setInt(2, order.getStoreId());
+            ps.setInt(3, order.getMenuId());
+            ps.setInt(4, order.getQuantity());
+            ps.setInt(5, order.getTotalPrice());
+            ps.setString(6, order.getCreatedAt());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().intValue();
+    }
+
+    // 상점의 메뉴인 경우에만 가격 반환 (메뉴/상점 조회 두 번을 한 번으로)
+    public Integer findMenuPrice(int storeId, int menuId) {
+        try {
+            return jdbcTemplate.queryForObject(FIND_MENU_PRICE_SQL, Integer.class, menuId, storeId);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
     // 특정 주문 읽기
     public OrderResponse findById(int id) {
-        String sql = """
-                SELECT 
-                    o.id,
-                    o.member_id,
-                    o.store_id,
-                    o.menu_id,
-                    o.quantity,
-                    o.total_price,
-                    o.created_at,
-                    m.name AS customer_name,
-                    m.phone AS customer_phone,
-                    m.address AS customer_address,
-                    s.name AS store_name,
-                    s.address AS store_address,
-                    mn.title AS menu_title,
-                    '선결제' AS payment_method
-                FROM orders o
-                JOIN members m ON o.member_id = m.id
-                JOIN stores s ON o.store_id = s.id
-                JOIN menus mn ON o.menu_id = mn.id
-                WHERE o.id = ?
-                """;
         try {
-            return jdbcTemplate.queryForObject(sql, orderResponseRowMapper(), id);
+            return jdbcTemplate.queryForObject(FIND_BY_ID_SQL, orderResponseRowMapper(), id);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
@@ -66,31 +163,8 @@ public class OrderRepository {
 
     // 특정 사용자의 주문 읽기
     public List<OrderResponse> findByMemberId(int memberId) {
-        String sql = """
-                SELECT 
-                    o.id,
-                    o.member_id,
-                    o.store_id,
-                    o.menu_id,
-                    o.quantity,
-                    o.total_price,
-                    o.created_at,
-                    m.name AS customer_name,
-                    m.phone AS customer_phone,
-                    m.address AS customer_address,
-                    s.name AS store_name,
-                    s.address AS store_address,
-                    mn.title AS menu_title,
-                    '선결제' AS payment_method
-                FROM orders o
-                JOIN members m ON o.member_id = m.id
-                JOIN stores s ON o.store_id = s.id
-                JOIN menus mn ON o.menu_id = mn.id
-                WHERE o.member_id = ?
-                ORDER BY o.created_at DESC
-                """;
         try {
-            return jdbcTemplate.query(sql, orderResponseRowMapper(), memberId);
+            return jdbcTemplate.query(FIND_BY_MEMBER_ID_SQL, orderResponseRowMapper(), memberId);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
@@ -99,31 +173,8 @@ public class OrderRepository {
 
     // 특정 상점의 주문 읽기
     public List<OrderResponse> findByStoreId(int storeId) {
-        String sql = """
-                SELECT 
-                    o.id,
-                    o.member_id,
-                    o.store_id,
-                    o.menu_id,
-                    o.quantity,
-                    o.total_price,
-                    o.created_at,
-                    m.name AS customer_name,
-                    m.phone AS customer_phone,
-                    m.address AS customer_address,
-                    s.name AS store_name,
-                    s.address AS store_address,
-                    mn.title AS menu_title,
-                    '선결제' AS payment_method
-                FROM orders o
-                JOIN members m ON o.member_id = m.id
-                JOIN stores s ON o.store_id = s.id
-                JOIN menus mn ON o.menu_id = mn.id
-                WHERE o.store_id = ?
-                ORDER BY o.created_at DESC
-                """;
         try {
-            return jdbcTemplate.query(sql, orderResponseRowMapper(), storeId);
+            return jdbcTemplate.query(FIND_BY_STORE_ID_SQL, orderResponseRowMapper(), storeId);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
@@ -131,8 +182,7 @@ public class OrderRepository {
 
     // 주문 수정
     public int update(OrderDto order) {
-        String sql = "UPDATE orders SET member_id=?, store_id=?, menu_id=?, quantity=?, total_price=?, created_at=? WHERE id=?";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(UPDATE_SQL,
                 order.getMemberId(),
                 order.getStoreId(),
                 order.getMenuId(),
@@ -144,37 +194,14 @@ public class OrderRepository {
 
     // 주문 삭제
     public int delete(int id) {
-        String sql = "DELETE FROM orders WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(DELETE_SQL, id);
     }
 
 
     // 전체 주문 조회
     public List<OrderResponse> findAllOrders() {
-        String sql = """
-                SELECT 
-                    o.id,
-                    o.member_id,
-                    o.store_id,
-                    o.menu_id,
-                    o.quantity,
-                    o.total_price,
-                    o.created_at,
-                    m.name AS customer_name,
-                    m.phone AS customer_phone,
-                    m.address AS customer_address,
-                    s.name AS store_name,
-                    s.address AS store_address,
-                    mn.title AS menu_title,
-                    '선결제' AS payment_method
-                FROM orders o
-                JOIN members m ON o.member_id = m.id
-                JOIN stores s ON o.store_id = s.id
-                JOIN menus mn ON o.menu_id = mn.id
-                ORDER BY o.created_at DESC
-                """;
         try {
-            return jdbcTemplate.query(sql, orderResponseRowMapper());
+            return jdbcTemplate.query(FIND_ALL_ORDERS_SQL, orderResponseRowMapper());
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
@@ -182,67 +209,25 @@ public class OrderRepository {
 
     // 기간 내 주문 찾기
     public List<OrderResponse> findOrdersByDateRange(int storeId, String startDay, String endDay) {
-        String sql = """
-                SELECT 
-                    o.id,
-                    o.member_id,
-                    o.store_id,
-                    o.menu_id,
-                    o.quantity,
-                    o.total_price,
-                    o.created_at,
-                    m.name AS customer_name,
-                    m.phone AS customer_phone,
-                    m.address AS customer_address,
-                    s.name AS store_name,
-                    s.address AS store_address,
-                    mn.title AS menu_title,
-                    '선결제' AS payment_method
-                FROM orders o
-                JOIN members m ON o.member_id = m.id
-                JOIN stores s ON o.store_id = s.id
-                JOIN menus mn ON o.menu_id = mn.id
-                WHERE o.store_id = ?
-                AND STR_TO_DATE(o.created_at, '%Y-%m-%d %H:%i:%s')
-                    BETWEEN STR_TO_DATE(?, '%Y-%m-%d')
-                    AND STR_TO_DATE(CONCAT(?, ' 23:59:59'), '%Y-%m-%d %H:%i:%s')
-                ORDER BY o.created_at DESC
-                """;
         try {
-            return jdbcTemplate.query(sql, orderResponseRowMapper(), storeId, startDay, endDay);
+            return jdbcTemplate.query(FIND_BY_DATE_RANGE_SQL, orderResponseRowMapper(), storeId, startDay, endDay);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
     }
 
     public SalesResponse findSalesByStoreAndMonth(int storeId, String month) {
-        String sql = """
-            SELECT 
-                s.id AS store_id,
-                s.name AS store_name,
-                m.id AS menu_id,
-                m.title AS menu_name,
-                SUM(o.quantity) AS count,           -- 메뉴별 총 판매 수량
-                SUM(o.total_price) AS amount        -- 메뉴별 총 정산금
-            FROM orders o
-            JOIN stores s ON o.store_id = s.id
-            JOIN menus m ON o.menu_id = m.id
-            WHERE s.id = ?
-              AND DATE_FORMAT(STR_TO_DATE(o.created_at, '%Y-%m-%d'), '%Y-%m') = ?
-            GROUP BY s.id, s.name, m.id, m.title
-            ORDER BY amount DESC
-        """;
 
         // 메뉴별 매출 리스트
         List<SalesResponse.MenuSales> menuSalesList = jdbcTemplate.query(
-                sql,
+                FIND_SALES_BY_STORE_AND_MONTH_SQL,
                 new Object[]{storeId, month},
                 menuSalesRowMapper()
         );
 
         // 상점명 조회
         List<String> storeNames = jdbcTemplate.query(
-                "SELECT name FROM stores WHERE id = ?",
+                FIND_STORE_NAME_SQL,
                 new Object[]{storeId},
                 (rs, rowNum) -> rs.getString("name")
         );
@@ -257,6 +242,57 @@ public class OrderRepository {
     }
 
 
+    // 내보내기: 기간 내 전체 주문을 한 행씩 콜백으로 넘김 (결과를 List 로 모으지 않음)
+    // created_at 은 'yyyy-MM-dd HH:mm' 문자열이므로 문자열 범위 비교로 인덱스를 그대로 사용
+    public void streamOrders(String fromInclusive, String toExclusive, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = forwardOnly(con, STREAM_ORDERS_SQL);
+            ps.setString(1, fromInclusive);
+            ps.setString(2, toExclusive);
+            return ps;
+        }, handler);
+    }
+
+    // 내보내기: 상점/월/메뉴별 판매 수량과 매출 (storeId 가 null 이면 전체 상점)
+    public void streamSales(String fromInclusive, String toExclusive, Integer storeId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = forwardOnly(con, storeId != null ? STREAM_STORE_SALES_SQL : STREAM_SALES_SQL);
+            ps.setString(1, fromInclusive);
+            ps.setString(2, toExclusive);
+            if (storeId != null) {
+                ps.setInt(3, storeId);
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static String salesSql(boolean byStore) {
+        return """
+                SELECT
+                    o.store_id,
+                    s.name AS store_name,
+                    SUBSTRING(o.created_at, 1, 7) AS sales_month,
+                    o.menu_id,
+                    mn.title AS menu_title,
+                    SUM(o.quantity) AS count,
+                    SUM(o.total_price) AS amount
+                FROM orders o
+                JOIN stores s ON o.store_id = s.id
+                JOIN menus mn ON o.menu_id = mn.id
+                WHERE o.created_at >= ? AND o.created_at < ?
+                """ + (byStore ? "  AND o.store_id = ?\n" : "") + """
+                GROUP BY o.store_id, s.name, SUBSTRING(o.created_at, 1, 7), o.menu_id, mn.title
+                ORDER BY o.store_id, sales_month, o.menu_id
+                """;
+    }
+
+    // 읽기 전용 + 전진 전용 커서. fetchSize 만큼씩 받아 오므로 결과 전체가 메모리에 올라오지 않음
+    private static PreparedStatement forwardOnly(Connection con, String sql) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(EXPORT_FETCH_SIZE);
+        return ps;
+    }
+
     private RowMapper<OrderResponse> orderResponseRowMapper() {
         return (rs, rowNum) -> {
             OrderResponse response = new OrderResponse();
@@ -0,0 +1,132 @@
+package com.barobaedal.barobaedal.orders.service;
+
+import com.barobaedal.barobaedal.common.bulkhead.BulkheadContext;
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.export.ExportFormat;
+import com.barobaedal.barobaedal.common.export.ExportWriter;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.barobaedal.barobaedal.orders.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+// 주문/매출 대용량 내보내기. DB 커서에서 읽은 행을 바로 응답 스트림에 써서 행 수와 관계없이 메모리 사용량이 일정하다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String[] ORDER_COLUMNS = {
+            "id", "created_at", "store_id", "store_name", "member_id", "customer_name",
+            "menu_id", "menu_title", "quantity", "total_price"};
+    private static final String[] SALES_COLUMNS = {
+            "store_id", "store_name", "month", "menu_id", "menu_title", "count", "amount"};
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    // from ~ to (yyyy-MM-dd, 양 끝 포함) 기간의 주문
+    public StreamingResponseBody exportOrders(String from, String to, ExportFormat format, boolean gzip) {
+        LocalDate fromDay = parseDay(from);
+        LocalDate toDay = parseDay(to);
+        if (toDay.isBefore(fromDay)) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+        }
+        String fromInclusive = fromDay.toString();
+        String toExclusive = toDay.plusDays(1).toString();
+        return stream("orders", format, gzip, ORDER_COLUMNS,
+                handler -> orderRepository.streamOrders(fromInclusive, toExclusive, handler),
+                (rs, rowNum) -> new Object[]{
+                        rs.getInt("id"),
+                        rs.getString("created_at"),
+                        rs.getInt("store_id"),
+                        rs.getString("store_name"),
+                        rs.getInt("member_id"),
+                        rs.getString("customer_name"),
+                        rs.getInt("menu_id"),
+                        rs.getString("menu_title"),
+                        rs.getInt("quantity"),
+                        rs.getInt("total_price")});
+    }
+
+    // from ~ to (yyyy-MM, 양 끝 포함) 기간의 상점/월/메뉴별 매출 (storeId 가 없으면 전체 상점)
+    public StreamingResponseBody exportSales(String from, String to, Integer storeId, ExportFormat format, boolean gzip) {
+        YearMonth fromMonth = parseMonth(from);
+        YearMonth toMonth = parseMonth(to);
+        if (toMonth.isBefore(fromMonth)) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+        }
+        String fromInclusive = fromMonth.atDay(1).toString();
+        String toExclusive = toMonth.plusMonths(1).atDay(1).toString();
+        return stream("sales", format, gzip, SALES_COLUMNS,
+                handler -> orderRepository.streamSales(fromInclusive, toExclusive, storeId, handler),
+                (rs, rowNum) -> new Object[]{
+                        rs.getInt("store_id"),
+                        rs.getString("store_name"),
+                        rs.getString("sales_month"),
+                        rs.getInt("menu_id"),
+                        rs.getString("menu_title"),
+                        rs.getLong("count"),
+                        rs.getLong("amount")});
+    }
+
+    // 응답 본문은 MVC 비동기 스레드에서 쓰이므로, 요청 스레드의 벌크헤드(커넥션 풀)를 넘겨받아 사용
+    private StreamingResponseBody stream(String name, ExportFormat format, boolean gzip, String[] columns,
+                                         Consumer<RowCallbackHandler> query, RowMapper<Object[]> rowMapper) {
+        String bulkhead = BulkheadContext.current();
+        return out -> {
+            BulkheadContext.set(bulkhead);
+            long start = System.nanoTime();
+            long[] rows = {0};
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            try (ExportWriter writer = ExportWriter.open(format, target, objectMapper.getFactory(), columns)) {
+                query.accept(rs -> {
+                    try {
+                        writer.row(rowMapper.mapRow(rs, (int) rows[0]));
+                    } catch (IOException e) {
+                        // 클라이언트가 연결을 끊으면 여기서 중단되고 커서/커넥션이 바로 반환됨
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                log.info("[export] {} 중단 rows={} ({})", name, rows[0], e.getCause().getMessage());
+                throw e.getCause();
+            } finally {
+                BulkheadContext.clear();
+            }
+            log.info("[export] {} rows={} format={} gzip={} {}ms", name, rows[0], format, gzip,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        };
+    }
+
+    private static LocalDate parseDay(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+        }
+    }
+
+    private static YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER.getMessage());
+        }
+    }
+}
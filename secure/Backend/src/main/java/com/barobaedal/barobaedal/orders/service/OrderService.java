@@ -1,12 +1,25 @@
 package com.barobaedal.barobaedal.orders.service;
 
+import com.barobaedal.barobaedal.common.exception.BaseException;
+import com.barobaedal.barobaedal.common.response.MessageCode;
+import com.barobaedal.barobaedal.members.dto.PointLedgerDto;
+import com.barobaedal.barobaedal.members.service.PointService;
+import com.barobaedal.barobaedal.orders.dto.CheckoutResponse;
 import com.barobaedal.barobaedal.orders.dto.OrderDto;
 import com.barobaedal.barobaedal.orders.dto.OrderResponse;
 import com.barobaedal.barobaedal.orders.dto.SalesResponse;
+import com.barobaedal.barobaedal.orders.event.OrderEvent;
+import com.barobaedal.barobaedal.orders.event.OrderEventRelay;
+import com.barobaedal.barobaedal.orders.event.OrderEventRepository;
 import com.barobaedal.barobaedal.orders.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
@@ -14,9 +27,60 @@ import java.util.List;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final PointService pointService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderEventRepository orderEventRepository;
+    private final OrderEventRelay orderEventRelay;
 
+    // 주문 저장 + order_events 기록을 한 트랜잭션으로 (후속 작업은 OrderEventRelay 가 커밋 후 비동기로 처리)
     public void createOrder(OrderDto order) {
-        orderRepository.save(order);
+        transactionTemplate.executeWithoutResult(status -> {
+            int orderId = orderRepository.saveAndReturnId(order);
+            recordCreated(orderId, order);
+        });
+    }
+
+    // 한 번에 주문할 수 있는 수량과 결제 금액 상한 (곱셈 오버플로로 음수 금액이 되어 포인트가 늘어나지 않도록)
+    private static final int MAX_QUANTITY = 100;
+    private static final long MAX_TOTAL_PRICE = 10_000_000;
+
+    // 포인트 결제 주문: 메뉴 가격으로 금액 계산 -> 포인트 차감(잔액 부족 시 0건) -> 주문 저장을 한 트랜잭션으로 처리
+    // 같은 Idempotency-Key 로 재시도하면 원장 유니크 키에 걸려 전체가 롤백되므로 이중 결제/이중 주문이 생기지 않는다
+    public CheckoutResponse checkout(int memberId, OrderDto order, String idempotencyKey) {
+        if (order.getStoreId() == null || order.getMenuId() == null
+                || order.getQuantity() == null || order.getQuantity() <= 0 || order.getQuantity() > MAX_QUANTITY) {
+            throw new BaseException(MessageCode.COMMON_INVALID_PARAMETER);
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                Integer price = orderRepository.findMenuPrice(order.getStoreId(), order.getMenuId());
+                if (price == null) {
+                    throw new BaseException(MessageCode.ORDER_MENU_NOT_IN_STORE);
+                }
+                long total = (long) price * order.getQuantity();
+                if (total <= 0 || total > MAX_TOTAL_PRICE) {
+                    throw new BaseException(MessageCode.ORDER_INVALID_AMOUNT);
+                }
+                int totalPrice = (int) total;
+                PointLedgerDto ledger = pointService.applyInTransaction(memberId, PointService.USE, -totalPrice, idempotencyKey);
+
+                order.setMemberId(memberId);
+                order.setTotalPrice(totalPrice);
+                order.setCreatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+                        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+                int orderId = orderRepository.saveAndReturnId(order);
+                recordCreated(orderId, order);
+                return new CheckoutResponse(orderId, totalPrice, ledger.getBalanceAfter());
+            });
+        } catch (DuplicateKeyException e) {
+            if (idempotencyKey == null) throw e;
+            throw new BaseException(MessageCode.ORDER_ALREADY_PROCESSED);
+        }
+    }
+
+    private void recordCreated(int orderId, OrderDto order) {
+        orderEventRepository.insert(OrderEvent.CREATED, orderId, order, System.currentTimeMillis());
+        orderEventRelay.wakeUpAfterCommit();
     }
 
     public List<OrderResponse> getAllOrders() {
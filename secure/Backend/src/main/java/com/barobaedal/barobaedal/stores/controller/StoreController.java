@@ -1,7 +1,7 @@
 package com.barobaedal.barobaedal.stores.controller;
 
 import com.barobaedal.barobaedal.common.FileStorageService;
-import com.barobaedal.barobaedal.common.JwtUtil;
+import com.barobaedal.barobaedal.common.auth.LoginUser;
 import com.barobaedal.barobaedal.common.response.CommonResponse;
 import com.barobaedal.barobaedal.common.response.ResponseType;
 import com.barobaedal.barobaedal.members.service.MemberService;
@@ -23,15 +23,13 @@ public class StoreController {
     private final StoreService storeService;
     private final MemberService memberService;
     private final FileStorageService fileStorageService;
-    private final JwtUtil jwtUtil;
 
     // 상점 등록
     @PostMapping("/create")
     public CommonResponse<Object> create(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @ModelAttribute StoreDto dto
     ) throws IOException {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         if (!memberService.getMemberRole(userid).equals("OWNER")) {
             return CommonResponse.builder()
@@ -57,10 +55,7 @@ public class StoreController {
 
     // 모든 상점 조회
     @GetMapping("/all")
-    public CommonResponse<Object> findAll(
-            @RequestHeader(value = "Authorization", required = false) String authHeader
-    ) {
-        jwtUtil.auth(authHeader);
+    public CommonResponse<Object> findAll() {
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(storeService.getAllStores())
@@ -71,10 +66,8 @@ public class StoreController {
     // 상점 조회
     @GetMapping("/info/{id}")
     public CommonResponse<Object> getInfo(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @PathVariable int id
     ) {
-        jwtUtil.auth(authHeader);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
                 .data(storeService.getStore(id))
@@ -85,10 +78,9 @@ public class StoreController {
     // 상점 수정
     @PostMapping("/info")
     public CommonResponse<Object> update(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @ModelAttribute StoreDto dto
     ) throws IOException {
-        String userid = jwtUtil.auth(authHeader);
         Integer memberId = memberService.getMemberId(userid);
         Integer storeOwnerId = storeService.findMemberIdByStoreId(memberId);
         if (!memberService.getMemberRole(userid).equals("OWNER")) {
@@ -120,10 +112,9 @@ public class StoreController {
     // 상점 삭제
     @GetMapping("/delete/{id}")
     public CommonResponse<Object> delete(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @LoginUser String userid,
             @PathVariable int id
     ) {
-        String userid = jwtUtil.auth(authHeader);
         if (!memberService.getMemberRole(userid).equals("ADMIN")) {
             return CommonResponse.builder()
                     .responseType(ResponseType.ERROR)
@@ -142,10 +133,8 @@ public class StoreController {
     // 상점명 검색
     @GetMapping("/search")
     public CommonResponse<Object> searchByName(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestParam("name") String name
     ) {
-        jwtUtil.auth(authHeader);
         List<StoreDto> results = storeService.searchStoresByName(name);
         return CommonResponse.builder()
                 .responseType(ResponseType.SUCCESS)
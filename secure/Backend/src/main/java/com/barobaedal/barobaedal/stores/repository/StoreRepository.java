@@ -16,6 +16,18 @@ import java.util.List;
 @Repository
 public class StoreRepository {
 
+    // 실행 계획 검증(common/schema/HotQueries)에서 같은 문자열을 EXPLAIN 한다
+    public static final String INSERT_SQL = "INSERT INTO stores (member_id, category, name, address, phone, open_h, open_m, closed_h, closed_m, thumbnail, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    public static final String FIND_BY_ID_SQL = "SELECT * FROM stores WHERE id = ?";
+    public static final String FIND_ALL_SQL = "SELECT * FROM stores";
+    public static final String UPDATE_SQL = "UPDATE stores SET category=?, name=?, address=?, phone=?, open_h=?, open_m=?, closed_h=?, closed_m=?, thumbnail=? WHERE id=?";
+    public static final String UPDATE_BY_MEMBER_ID_SQL = "UPDATE stores SET category=?, name=?, address=?, phone=?, open_h=?, open_m=?, closed_h=?, closed_m=?, thumbnail=? WHERE member_id=?";
+    public static final String FIND_MEMBER_ID_BY_STORE_ID_SQL = "SELECT member_id FROM stores WHERE member_id = ?";
+    public static final String FIND_STORE_ID_BY_MEMBER_ID_SQL = "SELECT id FROM stores WHERE member_id = ?";
+    public static final String DELETE_SQL = "DELETE FROM stores WHERE id = ?";
+    public static final String FIND_BY_NAME_LIKE_SQL = "SELECT * FROM stores WHERE name LIKE ?";
+
     private final JdbcTemplate jdbcTemplate;
 
     public StoreRepository(JdbcTemplate jdbcTemplate) {
@@ -38,13 +50,10 @@ public class StoreRepository {
             .build();
 
     public int insert(StoreDto store) {
-        String sql = "INSERT INTO stores (member_id, category, name, address, phone, open_h, open_m, closed_h, closed_m, thumbnail, created_at) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
             ps.setInt(1, store.getMemberId());
             ps.setString(2, store.getCategory());
             ps.setString(3, store.getName());
@@ -63,22 +72,19 @@ public class StoreRepository {
     }
 
     public StoreDto findById(int id) {
-        String sql = "SELECT * FROM stores WHERE id = ?";
         try {
-            return jdbcTemplate.queryForObject(sql, storeMapper, id);
+            return jdbcTemplate.queryForObject(FIND_BY_ID_SQL, storeMapper, id);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
     }
 
     public List<StoreDto> findAll() {
-        String sql = "SELECT * FROM stores";
-        return jdbcTemplate.query(sql, storeMapper);
+        return jdbcTemplate.query(FIND_ALL_SQL, storeMapper);
     }
 
     public int update(int id, StoreDto store) {
-        String sql = "UPDATE stores SET category=?, name=?, address=?, phone=?, open_h=?, open_m=?, closed_h=?, closed_m=?, thumbnail=? WHERE id=?";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(UPDATE_SQL,
                 store.getCategory(),
                 store.getName(),
                 store.getAddress(),
@@ -92,8 +98,7 @@ public class StoreRepository {
     }
 
     public int updateByMemberId(int memberId, StoreDto store) {
-        String sql = "UPDATE stores SET category=?, name=?, address=?, phone=?, open_h=?, open_m=?, closed_h=?, closed_m=?, thumbnail=? WHERE member_id=?";
-        return jdbcTemplate.update(sql,
+        return jdbcTemplate.update(UPDATE_BY_MEMBER_ID_SQL,
                 store.getCategory(),
                 store.getName(),
                 store.getAddress(),
@@ -107,8 +112,7 @@ public class StoreRepository {
     }
 
     public Integer findMemberIdByStoreId(int storeId) {
-        String sql = "SELECT member_id FROM stores WHERE member_id = ?";
-        List<Integer> result = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getInt("member_id"), storeId);
+        List<Integer> result = jdbcTemplate.query(FIND_MEMBER_ID_BY_STORE_ID_SQL, (rs, rowNum) -> rs.getInt("member_id"), storeId);
         try {
             return result.isEmpty() ? null : result.get(0);
         } catch (EmptyResultDataAccessException e) {
@@ -117,8 +121,7 @@ public class StoreRepository {
     }
 
     public Integer findStoreIdByMemberId(Integer memberId) {
-        String sql = "SELECT id FROM stores WHERE member_id = ?";
-        List<Integer> result = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getInt("id"), memberId);
+        List<Integer> result = jdbcTemplate.query(FIND_STORE_ID_BY_MEMBER_ID_SQL, (rs, rowNum) -> rs.getInt("id"), memberId);
         try {
             return result.isEmpty() ? null : result.get(0);
         } catch (EmptyResultDataAccessException e) {
@@ -127,15 +130,13 @@ public class StoreRepository {
     }
 
     public int delete(int id) {
-        String sql = "DELETE FROM stores WHERE id = ?";
-        return jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(DELETE_SQL, id);
     }
 
     public List<StoreDto> findByNameLike(String nameParam) {
-        String sql = "SELECT * FROM stores WHERE name LIKE ?";
         String likePattern = "%" + nameParam + "%";
         try {
-            return jdbcTemplate.query(sql, storeMapper, likePattern);
+            return jdbcTemplate.query(FIND_BY_NAME_LIKE_SQL, storeMapper, likePattern);
         } catch (EmptyResultDataAccessException e) {
             return null;
         }
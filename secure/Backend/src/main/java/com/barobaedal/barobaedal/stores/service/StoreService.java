@@ -1,5 +1,7 @@
 package com.barobaedal.barobaedal.stores.service;
 
+import com.barobaedal.barobaedal.common.invalidation.InvalidationBus;
+import com.barobaedal.barobaedal.common.invalidation.InvalidationEvent;
 import com.barobaedal.barobaedal.stores.dto.StoreDto;
 import com.barobaedal.barobaedal.stores.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,9 +15,12 @@ import java.util.List;
 public class StoreService {
 
     private final StoreRepository storeRepository;
+    private final InvalidationBus invalidationBus;
 
     public Integer createStore(StoreDto dto) {
-        return storeRepository.insert(dto);
+        Integer id = storeRepository.insert(dto);
+        invalidationBus.publish(InvalidationEvent.STORE, id);
+        return id;
     }
 
     public StoreDto getStore(int id) {
@@ -28,10 +33,12 @@ public class StoreService {
 
     public void updateStore(int id, StoreDto dto) {
         storeRepository.update(id, dto);
+        invalidationBus.publish(InvalidationEvent.STORE, id);
     }
 
     public void updateByMemberId(int memberId, StoreDto dto) {
         storeRepository.updateByMemberId(memberId, dto);
+        invalidationBus.publish(InvalidationEvent.STORE, InvalidationEvent.ALL);
     }
 
     public Integer findMemberIdByStoreId(int storeId) {
@@ -44,6 +51,7 @@ public class StoreService {
 
     public void deleteStore(int id) {
         storeRepository.delete(id);
+        invalidationBus.publish(InvalidationEvent.STORE, id);
     }
 
     public List<StoreDto> searchStoresByName(String name) {
@@ -0,0 +1,87 @@
+-- 로그인/회원 조회, 점주 상점 조회, 상점 메뉴, 주문 목록/내보내기, 게시판/댓글 인덱스와
+-- Flyway 도입 전에 코드에 추가된 포인트 원장, Idempotency-Key 테이블, 게시글 댓글 수 컬럼
+-- (V1 은 기존 운영 DB 와 같은 스키마로 두고, 그 이후 추가분은 모두 여기서 IF NOT EXISTS 로 만든다)
+-- ALGORITHM=INPLACE, LOCK=NONE : 인덱스를 만드는 동안에도 읽기/쓰기를 막지 않음 (불가능하면 잠그지 않고 실패)
+-- IF NOT EXISTS : 중간에 실패해 flyway repair 후 다시 실행해도 이미 만든 인덱스는 건너뜀
+
+-- checkLogin, getMemberId, getRole 등 userid 로 찾는 모든 조회
+-- 중복 userid 가 있으면 실패하므로 먼저 확인: SELECT userid, COUNT(*) FROM members GROUP BY userid HAVING COUNT(*) > 1;
+ALTER TABLE `members`
+    ADD UNIQUE INDEX IF NOT EXISTS `uk_members_userid` (`userid`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 점주의 상점 조회/수정 (findStoreIdByMemberId, updateByMemberId)
+ALTER TABLE `stores`
+    ADD INDEX IF NOT EXISTS `idx_stores_member` (`member_id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 상점별 메뉴 목록 (findAllByStoreId)
+ALTER TABLE `menus`
+    ADD INDEX IF NOT EXISTS `idx_menus_store` (`store_id`, `id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 내 주문 목록 (findByMemberId, 최신순)
+-- 상점 주문 목록/기간 조회/월 매출 (findByStoreId, findOrdersByDateRange, streamSales)
+-- 기간 내보내기 (streamOrders, created_at 문자열 범위)
+ALTER TABLE `orders`
+    ADD INDEX IF NOT EXISTS `idx_orders_member_created` (`member_id`, `created_at`),
+    ADD INDEX IF NOT EXISTS `idx_orders_store_created` (`store_id`, `created_at`),
+    ADD INDEX IF NOT EXISTS `idx_orders_created` (`created_at`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 게시판 목록 (findPage: 카테고리별 id 역순 keyset, findByCategory: 내 문의 목록)
+ALTER TABLE `boards`
+    ADD INDEX IF NOT EXISTS `idx_boards_category` (`category`, `id`),
+    ADD INDEX IF NOT EXISTS `idx_boards_category_member` (`category`, `member_id`, `id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 게시글별 댓글 페이지 (comment.findPage)
+ALTER TABLE `comments`
+    ADD INDEX IF NOT EXISTS `idx_comments_board` (`board_id`, `id`),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 댓글 수 (댓글 등록/삭제와 같은 트랜잭션에서 증감). 기존 댓글 수로 채움
+ALTER TABLE `boards`
+    ADD COLUMN IF NOT EXISTS `comment_count` INT NOT NULL DEFAULT 0;
+
+UPDATE `boards` b
+SET b.`comment_count` = (SELECT COUNT(*) FROM `comments` c WHERE c.`board_id` = b.`id`);
+
+-- 포인트 원장 (append-only, members.point 는 원장 합계와 같은 값을 원자적으로 유지)
+CREATE TABLE IF NOT EXISTS `point_ledger` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,       -- PK
+    `member_id` INT NOT NULL,                  -- FK: 회원 id (members.id)
+    `type` VARCHAR(10) NOT NULL,               -- CHARGE(충전), USE(사용), ADJUST(잔액 지정)
+    `amount` INT NOT NULL,                     -- 증감액 (사용은 음수)
+    `balance_after` INT NOT NULL,              -- 반영 후 잔액
+    `idempotency_key` VARCHAR(64) NULL,        -- 재시도 중복 방지 키 (회원별 유일)
+    `created_at` VARCHAR(20) NOT NULL,         -- 처리 시간
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_point_ledger_idempotency` (`member_id`, `idempotency_key`),
+    KEY `idx_point_ledger_member` (`member_id`, `id`),
+    CONSTRAINT `fk_point_ledger_member_id`
+        FOREIGN KEY (`member_id`)
+        REFERENCES `members` (`id`)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 원장 도입 전 잔액을 첫 ADJUST 로 기록 (원장 합계 = members.point)
+INSERT INTO `point_ledger` (`member_id`, `type`, `amount`, `balance_after`, `idempotency_key`, `created_at`)
+SELECT m.`id`, 'ADJUST', m.`point`, m.`point`, NULL, DATE_FORMAT(NOW(), '%Y-%m-%d %H:%i')
+FROM `members` m
+WHERE m.`point` <> 0
+  AND NOT EXISTS (SELECT 1 FROM `point_ledger` l WHERE l.`member_id` = m.`id`);
+
+-- Idempotency-Key 별 첫 응답 (expires_at 이 지나면 주기적으로 삭제)
+CREATE TABLE IF NOT EXISTS `idempotency_keys` (
+    `owner` VARCHAR(120) NOT NULL,             -- user:<userid> 또는 ip:<주소>
+    `idem_key` VARCHAR(64) NOT NULL,           -- 클라이언트가 보낸 Idempotency-Key
+    `request_hash` CHAR(64) NOT NULL,          -- 경로 + 본문 SHA-256 (같은 키에 다른 요청 구분)
+    `status` INT NOT NULL,                     -- 저장된 HTTP 상태
+    `content_type` VARCHAR(100) NULL,
+    `body` MEDIUMBLOB NOT NULL,                -- 저장된 응답 본문
+    `expires_at` BIGINT NOT NULL,              -- 만료 시각 (epoch ms)
+    PRIMARY KEY (`owner`, `idem_key`),
+    KEY `idx_idempotency_keys_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
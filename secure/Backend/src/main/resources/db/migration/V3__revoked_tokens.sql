@@ -0,0 +1,9 @@
+-- 로그아웃한 토큰 (jti). expires_at(토큰 만료 시각)이 지나면 주기적으로 삭제
+CREATE TABLE IF NOT EXISTS `revoked_tokens` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,       -- 인스턴스 간 증분 동기화 기준
+    `jti` VARCHAR(64) NOT NULL,                -- 토큰 ID
+    `expires_at` BIGINT NOT NULL,              -- 토큰 만료 시각 (epoch ms)
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_revoked_tokens_jti` (`jti`),
+    KEY `idx_revoked_tokens_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
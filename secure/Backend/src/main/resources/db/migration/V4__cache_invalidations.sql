@@ -0,0 +1,10 @@
+-- 인스턴스 간 캐시 무효화 이벤트. 각 인스턴스가 id 커서로 새 행을 읽고, retention 이 지난 행은 주기적으로 삭제
+CREATE TABLE IF NOT EXISTS `cache_invalidations` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,       -- 이벤트 순번 (읽기 커서)
+    `entity` VARCHAR(32) NOT NULL,             -- store, menu, notice
+    `entity_id` BIGINT NOT NULL,               -- 바뀐 id (0 이면 전체)
+    `origin` VARCHAR(128) NOT NULL,            -- 발행한 인스턴스 (자기 이벤트는 다시 적용하지 않음)
+    `created_at` BIGINT NOT NULL,              -- 발행 시각 (epoch ms, 반영 지연 측정)
+    PRIMARY KEY (`id`),
+    KEY `idx_cache_invalidations_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
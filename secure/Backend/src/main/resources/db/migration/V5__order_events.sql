@@ -0,0 +1,20 @@
+-- 주문 이벤트 아웃박스. 주문 저장과 같은 트랜잭션에서 기록하고 OrderEventRelay 가 가져가 처리
+CREATE TABLE IF NOT EXISTS `order_events` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT,
+    `event_type` VARCHAR(32) NOT NULL,          -- ORDER_CREATED
+    `order_id` INT NOT NULL,
+    `store_id` INT NOT NULL,
+    `member_id` INT NOT NULL,
+    `menu_id` INT NOT NULL,
+    `quantity` INT NOT NULL,
+    `total_price` INT NOT NULL,
+    `status` VARCHAR(10) NOT NULL,              -- PENDING, DONE, FAILED
+    `attempts` INT NOT NULL DEFAULT 0,          -- 전달 시도 횟수
+    `available_at` BIGINT NOT NULL,             -- 이 시각 이후 가져갈 수 있음 (임대, 재시도 대기, epoch ms)
+    `created_at` BIGINT NOT NULL,               -- 기록 시각 (epoch ms)
+    `processed_at` BIGINT NULL,                 -- DONE/FAILED 시각
+    `last_error` VARCHAR(500) NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_order_events_pending` (`status`, `available_at`),
+    KEY `idx_order_events_processed_at` (`processed_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -0,0 +1,223 @@
+package com.barobaedal.barobaedal.common.invalidation;
+
+import com.barobaedal.barobaedal.common.responsecache.ResponseCache;
+import com.barobaedal.barobaedal.common.responsecache.ResponseCacheProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 DB 를 보는 두 인스턴스(스프링 컨텍스트 2개)에서 한쪽의 변경이 다른 쪽 캐시에 반영되는지 확인
+// 스케줄러는 띄우지 않고 poll() 을 직접 호출
+class InvalidationBusTest {
+
+    private static final String JDBC_URL =
+            "jdbc:h2:mem:invalidation;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Configuration
+    @Import({InvalidationBus.class, JdbcInvalidationTransport.class, InvalidationRepository.class, ResponseCache.class})
+    static class NodeConfig {
+
+        @Bean(destroyMethod = "close")
+        DataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(JDBC_URL);
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(4);
+            new ResourceDatabasePopulator(new ClassPathResource("invalidation-schema.sql")).execute(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(DataSource dataSource) {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        InvalidationProperties invalidationProperties() {
+            InvalidationProperties properties = new InvalidationProperties();
+            properties.setGapTimeoutMs(60_000);
+            return properties;
+        }
+
+        @Bean
+        ResponseCacheProperties responseCacheProperties() {
+            return new ResponseCacheProperties();
+        }
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener implements InvalidationListener {
+
+        final List<InvalidationEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onInvalidation(InvalidationEvent event) {
+            events.add(event);
+        }
+    }
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 id 가 1 부터 시작하도록 테이블을 새로 만듦
+        new JdbcTemplate(new DriverManagerDataSource(JDBC_URL, "sa", "")).execute("DROP TABLE IF EXISTS cache_invalidations");
+        nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+        nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void otherNodeAppliesChangeOnNextPoll() {
+        nodeA.getBean(InvalidationBus.class).publish(InvalidationEvent.STORE, 7);
+
+        // 발행한 인스턴스는 바로 반영
+        assertThat(events(nodeA)).extracting(InvalidationEvent::entityId).containsExactly(7L);
+        assertThat(cacheVersion(nodeA)).isEqualTo(1);
+        assertThat(events(nodeB)).isEmpty();
+        assertThat(cacheVersion(nodeB)).isZero();
+
+        poll(nodeB);
+
+        assertThat(events(nodeB)).singleElement().satisfies(event -> {
+            assertThat(event.entity()).isEqualTo(InvalidationEvent.STORE);
+            assertThat(event.entityId()).isEqualTo(7L);
+            assertThat(event.version()).isPositive();
+            assertThat(event.origin()).isEqualTo(nodeA.getBean(InvalidationBus.class).getNodeId());
+        });
+        assertThat(cacheVersion(nodeB)).isEqualTo(1);
+        assertThat(nodeB.getBean(MeterRegistry.class).get("cache.invalidation.lag").timer().count()).isEqualTo(1);
+
+        // 자기 이벤트는 다시 적용하지 않고, 같은 이벤트를 두 번 전달하지 않음
+        poll(nodeA);
+        poll(nodeB);
+        assertThat(events(nodeA)).hasSize(1);
+        assertThat(events(nodeB)).hasSize(1);
+    }
+
+    @Test
+    void rolledBackWriteIsNeitherAppliedNorPublished() {
+        nodeA.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            nodeA.getBean(InvalidationBus.class).publish(InvalidationEvent.MENU, 3);
+            // 커밋 전에는 자기 인스턴스에도 적용하지 않음
+            assertThat(events(nodeA)).isEmpty();
+            status.setRollbackOnly();
+        });
+
+        poll(nodeB);
+
+        assertThat(events(nodeA)).isEmpty();
+        assertThat(events(nodeB)).isEmpty();
+    }
+
+    @Test
+    void committedInTransactionIsAppliedAfterCommit() {
+        nodeA.getBean(TransactionTemplate.class).executeWithoutResult(status ->
+                nodeA.getBean(InvalidationBus.class).publish(InvalidationEvent.NOTICE, 11));
+
+        poll(nodeB);
+
+        assertThat(events(nodeA)).extracting(InvalidationEvent::entityId).containsExactly(11L);
+        assertThat(events(nodeB)).extracting(InvalidationEvent::entityId).containsExactly(11L);
+    }
+
+    @Test
+    void laterCommittedNumberDoesNotSkipEarlierOne() throws Exception {
+        DataSource dataSource = nodeA.getBean(DataSource.class);
+        try (Connection slow = dataSource.getConnection()) {
+            // 먼저 번호를 받았지만 아직 커밋하지 않은 트랜잭션
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement(
+                    "INSERT INTO cache_invalidations (entity, entity_id, origin, created_at) VALUES ('store', 1, 'slow', ?)")) {
+                insert.setLong(1, System.currentTimeMillis());
+                insert.executeUpdate();
+            }
+
+            nodeA.getBean(InvalidationBus.class).publish(InvalidationEvent.STORE, 2);
+            poll(nodeB);
+            assertThat(events(nodeB)).extracting(InvalidationEvent::entityId).containsExactly(2L);
+
+            slow.commit();
+        }
+
+        poll(nodeB);
+        poll(nodeB);
+        assertThat(events(nodeB)).extracting(InvalidationEvent::entityId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void heldGapDoesNotLimitOnePollToOneBatch() throws Exception {
+        nodeB.getBean(InvalidationProperties.class).setBatchSize(2);
+        DataSource dataSource = nodeA.getBean(DataSource.class);
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement(
+                    "INSERT INTO cache_invalidations (entity, entity_id, origin, created_at) VALUES ('store', 1, 'slow', ?)")) {
+                insert.setLong(1, System.currentTimeMillis());
+                insert.executeUpdate();
+            }
+
+            for (long id = 2; id <= 6; id++) {
+                nodeA.getBean(InvalidationBus.class).publish(InvalidationEvent.STORE, id);
+            }
+            // 커서는 1번에 멈춰 있지만 그 뒤의 다섯 건은 한 번의 poll 에서 모두 전달
+            poll(nodeB);
+            assertThat(events(nodeB)).extracting(InvalidationEvent::entityId).containsExactly(2L, 3L, 4L, 5L, 6L);
+
+            slow.rollback();
+        }
+    }
+
+    private static void poll(AnnotationConfigApplicationContext node) {
+        node.getBean(JdbcInvalidationTransport.class).poll();
+    }
+
+    private static List<InvalidationEvent> events(AnnotationConfigApplicationContext node) {
+        return node.getBean(RecordingListener.class).events;
+    }
+
+    private static double cacheVersion(AnnotationConfigApplicationContext node) {
+        return node.getBean(MeterRegistry.class).get("response.cache.version").gauge().value();
+    }
+}
@@ -0,0 +1,98 @@
+package com.barobaedal.barobaedal.common.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DB 대신 행 목록을 들고 있는 리포지토리로 동기화 커서와 max-entries 넘침 처리를 확인
+// 스케줄러는 띄우지 않고 load()/sync() 를 직접 호출
+class TokenRevocationStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private final FakeRepository repository = new FakeRepository();
+    private final RevocationProperties properties = new RevocationProperties();
+
+    @Test
+    void expiredRowsAdvanceTheCursor() {
+        long now = System.currentTimeMillis();
+        repository.add(1, "a", now + HOUR);
+        TokenRevocationStore store = store();
+        store.load();
+
+        repository.add(2, "expired", now - 1);
+        repository.add(3, "b", now + HOUR);
+        store.sync();
+        store.sync();
+
+        assertThat(store.isRevoked("b")).isTrue();
+        assertThat(store.isRevoked("expired")).isFalse();
+        // 만료된 2번을 빈 번호로 보면 커서가 1에 머무름
+        assertThat(repository.lastIds).endsWith(3L);
+    }
+
+    @Test
+    void entriesBeyondMaxAreCheckedInTheDatabase() {
+        properties.setMaxEntries(2);
+        long now = System.currentTimeMillis();
+        TokenRevocationStore store = store();
+        store.load();
+
+        store.revoke("a", now + HOUR);
+        store.revoke("b", now + HOUR);
+        store.revoke("c", now + HOUR);
+
+        assertThat(store.isRevoked("a")).isTrue();
+        assertThat(store.isRevoked("b")).isTrue();
+        assertThat(repository.lookups).isZero();
+        assertThat(store.isRevoked("c")).isTrue();
+        assertThat(repository.lookups).isEqualTo(1);
+    }
+
+    private TokenRevocationStore store() {
+        return new TokenRevocationStore(properties, repository, new SimpleMeterRegistry());
+    }
+
+    static class FakeRepository extends RevokedTokenRepository {
+
+        private final List<RevokedToken> rows = new ArrayList<>();
+        private final List<Long> lastIds = new ArrayList<>();
+        private long nextId = 1;
+        private int lookups;
+
+        FakeRepository() {
+            super(null);
+        }
+
+        void add(long id, String jti, long expiresAt) {
+            rows.add(new RevokedToken(id, jti, expiresAt));
+            nextId = Math.max(nextId, id + 1);
+        }
+
+        @Override
+        public void insert(String jti, long expiresAt) {
+            add(nextId, jti, expiresAt);
+        }
+
+        @Override
+        public List<RevokedToken> findAfter(long lastId) {
+            lastIds.add(lastId);
+            return rows.stream().filter(row -> row.id() > lastId).toList();
+        }
+
+        @Override
+        public boolean isRevoked(String jti, long now) {
+            lookups++;
+            return rows.stream().anyMatch(row -> row.jti().equals(jti) && row.expiresAt() > now);
+        }
+
+        @Override
+        public int deleteExpired(long now) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.barobaedal.barobaedal.common.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Repository;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리포지토리에 *_SQL 상수를 추가하고 HotQueries 에 등록하지 않으면 실행 계획 검증에서 빠지므로 여기서 잡는다
+class HotQueriesTest {
+
+    @Test
+    void everyRepositoryQueryIsVerified() throws Exception {
+        Set<String> verified = HotQueries.ALL.stream().map(HotQuery::sql).collect(Collectors.toSet());
+
+        List<String> missing = new ArrayList<>();
+        for (Field field : repositorySqlConstants()) {
+            String sql = (String) field.get(null);
+            if (sql.stripLeading().startsWith("INSERT")) continue;
+            if (!verified.contains(sql)) {
+                missing.add(field.getDeclaringClass().getSimpleName() + "." + field.getName());
+            }
+        }
+
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void queryNamesAreUnique() {
+        List<String> names = HotQueries.ALL.stream().map(HotQuery::name).toList();
+
+        assertThat(names).doesNotHaveDuplicates();
+    }
+
+    private static List<Field> repositorySqlConstants() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Repository.class));
+
+        List<Field> fields = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.barobaedal.barobaedal")) {
+            for (Field field : Class.forName(candidate.getBeanClassName()).getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers)
+                        && field.getType() == String.class && field.getName().endsWith("_SQL")) {
+                    fields.add(field);
+                }
+            }
+        }
+        assertThat(fields).isNotEmpty();
+        return fields;
+    }
+}
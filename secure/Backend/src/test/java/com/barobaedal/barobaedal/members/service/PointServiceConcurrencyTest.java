@@ -0,0 +1,154 @@
+package com.barobaedal.barobaedal.members.service;
+
+import com.barobaedal.barobaedal.common.exception.InsufficientPointException;
+import com.barobaedal.barobaedal.members.repository.PointLedgerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 1000건 동시 충전에서 잔액 유실이 없는지, 멱등 키 재시도가 한 번만 반영되는지 확인
+@SpringJUnitConfig(PointServiceConcurrencyTest.Config.class)
+class PointServiceConcurrencyTest {
+
+    private static final int REQUESTS = 1000;
+    private static final int THREADS = 32;
+
+    @Configuration
+    @Import({PointService.class, PointLedgerRepository.class})
+    static class Config {
+
+        @Bean(destroyMethod = "close")
+        DataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:point;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(THREADS);
+            new ResourceDatabasePopulator(new ClassPathResource("point-ledger-schema.sql")).execute(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(DataSource dataSource) {
+            return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+    }
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int memberId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_ledger");
+        jdbcTemplate.update("DELETE FROM members");
+        jdbcTemplate.update("INSERT INTO members (userid, point) VALUES ('user001', 0)");
+        memberId = jdbcTemplate.queryForObject("SELECT id FROM members WHERE userid = 'user001'", Integer.class);
+    }
+
+    @Test
+    void parallelChargesDoNotLoseUpdates() throws Exception {
+        runInParallel(i -> pointService.charge(memberId, 10, null));
+
+        assertThat(balance()).isEqualTo(REQUESTS * 10);
+        assertThat(ledgerCount()).isEqualTo(REQUESTS);
+        assertThat(ledgerSum()).isEqualTo(balance());
+        // 원장의 반영 후 잔액은 모두 달라야 한다 (같은 잔액을 보고 덮어쓴 요청이 없음)
+        Integer distinct = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT balance_after) FROM point_ledger WHERE member_id = ?", Integer.class, memberId);
+        assertThat(distinct).isEqualTo(REQUESTS);
+    }
+
+    @Test
+    void retriedRequestsWithSameKeyApplyOnce() throws Exception {
+        // 같은 키를 두 번씩 보내는 재시도
+        runInParallel(i -> pointService.charge(memberId, 10, "charge-" + (i / 2)));
+
+        assertThat(balance()).isEqualTo(REQUESTS / 2 * 10);
+        assertThat(ledgerCount()).isEqualTo(REQUESTS / 2);
+    }
+
+    @Test
+    void parallelDebitsNeverGoNegative() throws Exception {
+        pointService.charge(memberId, 500, null);
+        AtomicInteger rejected = new AtomicInteger();
+
+        runInParallel(i -> {
+            try {
+                pointService.use(memberId, 1, null);
+            } catch (InsufficientPointException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(balance()).isZero();
+        assertThat(rejected.get()).isEqualTo(REQUESTS - 500);
+        assertThat(ledgerSum()).isZero();
+    }
+
+    private void runInParallel(IntTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private int balance() {
+        return jdbcTemplate.queryForObject("SELECT point FROM members WHERE id = ?", Integer.class, memberId);
+    }
+
+    private int ledgerCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_ledger WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private int ledgerSum() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM point_ledger WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,168 @@
+package com.barobaedal.barobaedal.orders.notification;
+
+import com.barobaedal.barobaedal.orders.event.OrderEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 짧은 묶음 구간으로 디스패처를 직접 만들고, 보낸 알림을 기록하는 채널로 묶기/재예약/중복 제거/넘침을 확인
+class OwnerNotificationDispatcherTest {
+
+    private static final long WINDOW_MS = 100;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingChannel channel = new RecordingChannel();
+    private OwnerNotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        channel.release.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void burstForOneStoreIsSentAsOneNotification() {
+        dispatcher = dispatcher(10);
+
+        for (int i = 1; i <= 5; i++) {
+            dispatcher.handle(event(i, 1, 1000));
+        }
+
+        await(() -> channel.sent.size() == 1);
+        sleep(WINDOW_MS * 3);
+        assertThat(channel.sent).hasSize(1);
+        OwnerNotification notification = channel.sent.get(0);
+        assertThat(notification.storeId()).isEqualTo(1);
+        assertThat(notification.orderCount()).isEqualTo(5);
+        assertThat(notification.totalPrice()).isEqualTo(5000);
+        assertThat(notification.orderIds()).containsExactly(101, 102, 103, 104, 105);
+        assertThat(counter("notification.coalesced")).isEqualTo(4);
+        assertThat(dispatcher.getPendingStores()).isZero();
+    }
+
+    @Test
+    void orderArrivingDuringSendIsSentAsNextNotification() throws InterruptedException {
+        dispatcher = dispatcher(10);
+        channel.blockNext();
+
+        dispatcher.handle(event(1, 1, 1000));
+        assertThat(channel.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 알림 전송이 끝나지 않은 동안 들어온 주문
+        dispatcher.handle(event(2, 1, 2000));
+        dispatcher.handle(event(3, 1, 3000));
+        sleep(WINDOW_MS * 3);
+        assertThat(channel.sent).isEmpty();
+
+        channel.release.countDown();
+        await(() -> channel.sent.size() == 2);
+        assertThat(channel.sent.get(0).orderIds()).containsExactly(101);
+        assertThat(channel.sent.get(1).orderIds()).containsExactly(102, 103);
+        assertThat(channel.sent.get(1).orderCount()).isEqualTo(2);
+        await(() -> dispatcher.getPendingStores() == 0);
+    }
+
+    @Test
+    void redeliveredEventIsCountedOnce() {
+        dispatcher = dispatcher(10);
+
+        OrderEvent event = event(1, 1, 1000);
+        dispatcher.handle(event);
+        dispatcher.handle(event);
+
+        await(() -> channel.sent.size() == 1);
+        assertThat(channel.sent.get(0).orderCount()).isEqualTo(1);
+        assertThat(counter("notification.duplicates")).isEqualTo(1);
+        assertThat(counter("notification.received")).isEqualTo(1);
+    }
+
+    @Test
+    void newStoreBeyondMaxPendingStoresIsDropped() {
+        dispatcher = dispatcher(2);
+
+        assertThat(dispatcher.submit(event(1, 1, 1000))).isTrue();
+        assertThat(dispatcher.submit(event(2, 2, 1000))).isTrue();
+        assertThat(dispatcher.submit(event(3, 3, 1000))).isFalse();
+        // 이미 대기 중인 상점은 넘친 상태에서도 합쳐짐
+        assertThat(dispatcher.submit(event(4, 1, 1000))).isTrue();
+
+        await(() -> channel.sent.size() == 2);
+        assertThat(channel.sent).extracting(OwnerNotification::storeId).containsExactlyInAnyOrder(1, 2);
+        assertThat(channel.sent).filteredOn(n -> n.storeId() == 1)
+                .singleElement().extracting(OwnerNotification::orderCount).isEqualTo(2);
+        assertThat(counter("notification.dropped")).isEqualTo(1);
+    }
+
+    private OwnerNotificationDispatcher dispatcher(int maxPendingStores) {
+        NotificationProperties properties = new NotificationProperties();
+        properties.setPoolSize(2);
+        properties.setCoalesceWindowMs(WINDOW_MS);
+        properties.setMaxPendingStores(maxPendingStores);
+        return new OwnerNotificationDispatcher(properties, List.of(channel), meterRegistry);
+    }
+
+    private static OrderEvent event(long id, int storeId, int totalPrice) {
+        return new OrderEvent(id, OrderEvent.CREATED, 100 + (int) id, storeId, 1, 1, 1, totalPrice,
+                System.currentTimeMillis(), 0);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 기다리다 시간 초과").isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 보낸 알림을 순서대로 기록. blockNext() 후 첫 전송은 release 될 때까지 멈춤
+    static class RecordingChannel implements NotificationChannel {
+
+        final List<OwnerNotification> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+
+        void blockNext() {
+            block = true;
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void send(OwnerNotification notification) throws InterruptedException {
+            if (block) {
+                block = false;
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            sent.add(notification);
+        }
+    }
+}
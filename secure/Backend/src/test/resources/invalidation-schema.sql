@@ -0,0 +1,9 @@
+-- InvalidationBusTest 용 (두 컨텍스트가 같은 DB 에 각각 실행하므로 IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    origin VARCHAR(128) NOT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,21 @@
+-- PointServiceConcurrencyTest 용 최소 스키마 (DDL/DDL 의 members, point_ledger)
+CREATE TABLE members (
+    id INT NOT NULL AUTO_INCREMENT,
+    userid VARCHAR(100) NOT NULL,
+    point INT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE point_ledger (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    member_id INT NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    amount INT NOT NULL,
+    balance_after INT NOT NULL,
+    idempotency_key VARCHAR(64) NULL,
+    created_at VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_point_ledger_idempotency UNIQUE (member_id, idempotency_key),
+    CONSTRAINT fk_point_ledger_member_id FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_point_ledger_member ON point_ledger (member_id, id);